@@ -0,0 +1,87 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A transaction-scoped collector handing the outbox entries saved by the transaction to an
+ * {@link OutboxAfterCommitPublisher} once it commits.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxAfterCommitPublication implements TransactionSynchronization {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxAfterCommitPublication.class);
+
+    private final OutboxAfterCommitPublisher publisher;
+    private final List<OutboxEntry> entries = new ArrayList<>();
+
+
+    private OutboxAfterCommitPublication(OutboxAfterCommitPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+
+    /**
+     * Returns the publication registered for the current transaction with the given publisher, registering a new one
+     * if necessary. Must only be called while transaction synchronization is active.
+     */
+    static OutboxAfterCommitPublication currentFor(OutboxAfterCommitPublisher publisher) {
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof OutboxAfterCommitPublication publication
+              && publication.publisher == publisher) {
+                return publication;
+            }
+        }
+
+        OutboxAfterCommitPublication publication = new OutboxAfterCommitPublication(publisher);
+        TransactionSynchronizationManager.registerSynchronization(publication);
+        return publication;
+    }
+
+    void addAll(List<OutboxEntry> entries) {
+        this.entries.addAll(entries);
+    }
+
+    @Override
+    public void afterCommit() {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            publisher.publish(List.copyOf(entries));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to publish {} outbox entries after commit, leaving them to the relay..",
+              entries.size(), e);
+        }
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        entries.clear();
+    }
+}
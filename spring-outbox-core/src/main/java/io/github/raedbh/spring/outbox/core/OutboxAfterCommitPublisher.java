@@ -0,0 +1,41 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.core;
+
+import java.util.List;
+
+/**
+ * Publishes outbox entries right after the transaction that saved them commits, without waiting for a relay.
+ *
+ * <p>Implementations are expected to {@linkplain OutboxRepository#markPublished(List) mark} the entries as published
+ * once the broker acknowledged them. Entries left unmarked, e.g. after a crash, remain in the outbox and are published
+ * by the relay sweeping it instead.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+public interface OutboxAfterCommitPublisher {
+
+    /**
+     * Publishes the given committed entries.
+     *
+     * <p>Called on the committing thread, so implementations should hand the entries over rather than block.</p>
+     *
+     * @param entries the committed entries, with their assigned ids.
+     */
+    void publish(List<OutboxEntry> entries);
+}
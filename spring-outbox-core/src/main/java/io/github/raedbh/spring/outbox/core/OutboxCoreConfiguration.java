@@ -19,7 +19,10 @@ package io.github.raedbh.spring.outbox.core;
 import java.io.Serializable;
 import java.util.Set;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
@@ -34,6 +37,7 @@ import org.springframework.transaction.support.TransactionTemplate;
  * @since 1.0
  */
 @Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(OutboxProperties.class)
 public class OutboxCoreConfiguration {
 
     @Bean
@@ -55,7 +59,16 @@ public class OutboxCoreConfiguration {
 
     @Bean
     OutboxManager outboxManager(OutboxRepository outboxRepository, Serializer<Serializable> outboxSerializer,
-      TransactionTemplate transactionTemplate, SerializableTargetConverterRegistry converterRegistry) {
-        return new OutboxManager(outboxRepository, outboxSerializer, transactionTemplate, converterRegistry);
+      TransactionTemplate transactionTemplate, SerializableTargetConverterRegistry converterRegistry,
+      OutboxProperties outboxProperties, ObjectProvider<OutboxAfterCommitPublisher> afterCommitPublisher) {
+        return new OutboxManager(outboxRepository, outboxSerializer, transactionTemplate, converterRegistry,
+          outboxProperties.getFlushMode(), outboxProperties.isTransientEntries(),
+          afterCommitPublisher.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.outbox.retention", name = "enabled", havingValue = "true")
+    OutboxRetentionScheduler outboxRetentionScheduler(OutboxPurger outboxPurger, OutboxProperties outboxProperties) {
+        return new OutboxRetentionScheduler(outboxPurger, outboxProperties.getRetention());
     }
 }
@@ -0,0 +1,96 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A transaction-scoped buffer accumulating outbox entries and writing them in a single batch before commit.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxEntriesBuffer implements TransactionSynchronization {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxEntriesBuffer.class);
+
+    private final OutboxRepository outboxRepository;
+    private final boolean transientEntries;
+    private final List<OutboxEntry> entries = new ArrayList<>();
+
+
+    private OutboxEntriesBuffer(OutboxRepository outboxRepository, boolean transientEntries) {
+        this.outboxRepository = outboxRepository;
+        this.transientEntries = transientEntries;
+    }
+
+
+    /**
+     * Returns the buffer registered for the current transaction by the given repository, registering a new one if
+     * necessary. Must only be called while transaction synchronization is active.
+     */
+    static OutboxEntriesBuffer currentFor(OutboxRepository outboxRepository, boolean transientEntries) {
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof OutboxEntriesBuffer buffer && buffer.outboxRepository == outboxRepository) {
+                return buffer;
+            }
+        }
+
+        OutboxEntriesBuffer buffer = new OutboxEntriesBuffer(outboxRepository, transientEntries);
+        TransactionSynchronizationManager.registerSynchronization(buffer);
+        return buffer;
+    }
+
+    void addAll(List<OutboxEntry> entries) {
+        this.entries.addAll(entries);
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        LOGGER.info("Flushing {} buffered outbox entries..", entries.size());
+
+        write(outboxRepository, List.copyOf(entries), transientEntries);
+        entries.clear();
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        entries.clear();
+    }
+
+    /**
+     * Writes the given entries, deleting them again in the same transaction if they are transient.
+     */
+    static void write(OutboxRepository outboxRepository, List<OutboxEntry> entries, boolean transientEntries) {
+        if (transientEntries) {
+            outboxRepository.saveAllTransiently(entries);
+        } else {
+            outboxRepository.saveAll(entries);
+        }
+    }
+}
@@ -35,6 +35,9 @@ public class OutboxEntry {
     @Nullable
     private Map<String, String> metadata;
 
+    @Nullable
+    private String id;
+
 
     /**
      * Creates an {@link OutboxEntry} for a given {@link RootEntity}.
@@ -78,4 +81,23 @@ public class OutboxEntry {
         return metadata;
     }
 
+    /**
+     * The identifier assigned by the {@link OutboxRepository} when saving the entry, or {@code null} before.
+     */
+    @Nullable
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Assigns the identifier under which the entry is stored. Only meant to be called by {@link OutboxRepository}
+     * implementations.
+     *
+     * @param id the stored entry identifier; must not be {@code null}.
+     */
+    public void assignId(String id) {
+        Assert.notNull(id, "Id must not be null");
+        this.id = id;
+    }
+
 }
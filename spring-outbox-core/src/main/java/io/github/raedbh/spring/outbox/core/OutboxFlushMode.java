@@ -0,0 +1,36 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.core;
+
+/**
+ * Defines when outbox entries are written to the {@link OutboxRepository}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+public enum OutboxFlushMode {
+
+    /**
+     * Entries are written right after each intercepted state-changing method invocation.
+     */
+    IMMEDIATE,
+
+    /**
+     * Entries are accumulated for the whole transaction and written in a single batch right before it commits.
+     */
+    BEFORE_COMMIT
+}
@@ -27,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.serializer.Serializer;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import static io.github.raedbh.spring.outbox.core.OutboxHeaders.EVENT_ENTITY_ID;
@@ -48,30 +49,101 @@ public class OutboxManager {
     private final Serializer<Serializable> outboxSerializer;
     private final TransactionTemplate transactionTemplate;
     private final SerializableTargetConverterRegistry converterRegistry;
+    private final OutboxFlushMode flushMode;
+    private final boolean transientEntries;
+
+    @Nullable
+    private final OutboxAfterCommitPublisher afterCommitPublisher;
 
 
     public OutboxManager(OutboxRepository outboxRepository, Serializer<Serializable> outboxSerializer,
       TransactionTemplate transactionTemplate, SerializableTargetConverterRegistry converterRegistry) {
 
+        this(outboxRepository, outboxSerializer, transactionTemplate, converterRegistry, OutboxFlushMode.IMMEDIATE);
+    }
+
+    public OutboxManager(OutboxRepository outboxRepository, Serializer<Serializable> outboxSerializer,
+      TransactionTemplate transactionTemplate, SerializableTargetConverterRegistry converterRegistry,
+      OutboxFlushMode flushMode) {
+
+        this(outboxRepository, outboxSerializer, transactionTemplate, converterRegistry, flushMode, false);
+    }
+
+    /**
+     * Creates a new {@link OutboxManager}.
+     *
+     * @param transientEntries whether entries are deleted right after being inserted, in the same transaction, so
+     * that they only live in the database log read by change data capture relays.
+     */
+    public OutboxManager(OutboxRepository outboxRepository, Serializer<Serializable> outboxSerializer,
+      TransactionTemplate transactionTemplate, SerializableTargetConverterRegistry converterRegistry,
+      OutboxFlushMode flushMode, boolean transientEntries) {
+
+        this(outboxRepository, outboxSerializer, transactionTemplate, converterRegistry, flushMode, transientEntries,
+          null);
+    }
+
+    /**
+     * Creates a new {@link OutboxManager}.
+     *
+     * @param transientEntries whether entries are deleted right after being inserted, in the same transaction, so
+     * that they only live in the database log read by change data capture relays.
+     * @param afterCommitPublisher optional publisher the entries are handed to once their transaction commits.
+     */
+    public OutboxManager(OutboxRepository outboxRepository, Serializer<Serializable> outboxSerializer,
+      TransactionTemplate transactionTemplate, SerializableTargetConverterRegistry converterRegistry,
+      OutboxFlushMode flushMode, boolean transientEntries, @Nullable OutboxAfterCommitPublisher afterCommitPublisher) {
+
         this.outboxRepository = outboxRepository;
         this.outboxSerializer = outboxSerializer;
         this.transactionTemplate = transactionTemplate;
         this.converterRegistry = converterRegistry;
+        this.flushMode = flushMode;
+        this.transientEntries = transientEntries;
+        this.afterCommitPublisher = afterCommitPublisher;
     }
 
 
     @Nullable
     public Object proceedInvocationAndSaveOutboxEntries(RootEntity rootEntity, Supplier<Object> proceed) {
+        return proceedInvocationAndSaveOutboxEntries(List.of(rootEntity), proceed);
+    }
 
-        List<OutboxEntry> entries = outboxEntriesFor(rootEntity);
+    /**
+     * Proceeds the invocation and saves the outbox entries of all given root entities as a single batch, within the
+     * same transaction.
+     *
+     * @param rootEntities the root entities with an assigned event; must not be {@code null}.
+     * @param proceed the invocation to proceed.
+     * @return the result of the invocation.
+     */
+    @Nullable
+    public Object proceedInvocationAndSaveOutboxEntries(List<? extends RootEntity> rootEntities,
+      Supplier<Object> proceed) {
+
+        List<OutboxEntry> entries = new ArrayList<>();
+        rootEntities.forEach(rootEntity -> entries.addAll(outboxEntriesFor(rootEntity)));
 
         return transactionTemplate.execute(status -> {
 
             Object result = proceed.get();
 
+            if (afterCommitPublisher != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                OutboxAfterCommitPublication.currentFor(afterCommitPublisher).addAll(entries);
+            }
+
+            if (flushMode == OutboxFlushMode.BEFORE_COMMIT
+              && TransactionSynchronizationManager.isSynchronizationActive()) {
+
+                LOGGER.info("Buffering outbox entries until transaction commit..");
+
+                OutboxEntriesBuffer.currentFor(outboxRepository, transientEntries).addAll(entries);
+                return result;
+            }
+
             LOGGER.info("Saving outbox entries..");
 
-            entries.forEach(outboxRepository::save);
+            OutboxEntriesBuffer.write(outboxRepository, entries, transientEntries);
 
             return result;
         });
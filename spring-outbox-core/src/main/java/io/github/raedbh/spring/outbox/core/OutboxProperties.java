@@ -0,0 +1,129 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.core;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for the core outbox behavior.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "spring.outbox")
+class OutboxProperties {
+
+    private final OutboxFlushMode flushMode;
+
+    private final boolean transientEntries;
+
+    private final Retention retention;
+
+
+    /**
+     * Creates a new {@link OutboxProperties} instance.
+     *
+     * @param flushMode when outbox entries are written. Defaults to {@link OutboxFlushMode#IMMEDIATE}.
+     * @param transientEntries whether outbox entries are deleted right after being inserted, in the same
+     * transaction. Defaults to {@code false}.
+     * @param retention how long outbox entries are kept before being deleted.
+     */
+    @ConstructorBinding
+    OutboxProperties(@DefaultValue("immediate") OutboxFlushMode flushMode,
+      @DefaultValue("false") boolean transientEntries, @DefaultValue Retention retention) {
+        this.flushMode = flushMode;
+        this.transientEntries = transientEntries;
+        this.retention = retention;
+    }
+
+
+    /**
+     * Specifies when outbox entries are written.
+     */
+    OutboxFlushMode getFlushMode() {
+        return flushMode;
+    }
+
+    /**
+     * Specifies whether outbox entries are deleted right after being inserted, leaving them only in the database log
+     * for change data capture relays.
+     */
+    boolean isTransientEntries() {
+        return transientEntries;
+    }
+
+    /**
+     * Retention settings of outbox entries.
+     */
+    Retention getRetention() {
+        return retention;
+    }
+
+    static class Retention {
+
+        private final boolean enabled;
+        private final Duration maxAge;
+        private final Duration interval;
+        private final int batchSize;
+        private final Duration batchPause;
+
+
+        /**
+         * Creates a new {@link Retention} instance.
+         *
+         * @param enabled whether outbox entries are deleted periodically. Defaults to {@code false}.
+         * @param maxAge the age after which an outbox entry is deleted. Defaults to 7 days.
+         * @param interval the delay between two cleanup runs. Defaults to 1 minute.
+         * @param batchSize the maximum number of entries deleted per statement. Defaults to 1000.
+         * @param batchPause the pause between two batches of the same run. Defaults to 100 milliseconds.
+         */
+        Retention(@DefaultValue("false") boolean enabled, @DefaultValue("7d") Duration maxAge,
+          @DefaultValue("1m") Duration interval, @DefaultValue("1000") int batchSize,
+          @DefaultValue("100ms") Duration batchPause) {
+            this.enabled = enabled;
+            this.maxAge = maxAge;
+            this.interval = interval;
+            this.batchSize = batchSize;
+            this.batchPause = batchPause;
+        }
+
+
+        boolean isEnabled() {
+            return enabled;
+        }
+
+        Duration getMaxAge() {
+            return maxAge;
+        }
+
+        Duration getInterval() {
+            return interval;
+        }
+
+        int getBatchSize() {
+            return batchSize;
+        }
+
+        Duration getBatchPause() {
+            return batchPause;
+        }
+    }
+}
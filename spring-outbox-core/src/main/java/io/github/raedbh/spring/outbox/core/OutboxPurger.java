@@ -0,0 +1,41 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.core;
+
+import java.time.Duration;
+
+/**
+ * Deletes outbox entries that are no longer needed once they have been relayed.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+public interface OutboxPurger {
+
+    /**
+     * Deletes at most {@code limit} outbox entries older than the given age, oldest first.
+     *
+     * <p>The age is measured against the clock of the application, which the creation times are taken from.
+     * Implementations should run each call as a short, independent unit of work so that locks are released between
+     * batches.</p>
+     *
+     * @param maxAge the age beyond which entries are deleted.
+     * @param limit the maximum number of entries to delete.
+     * @return the number of deleted entries.
+     */
+    int purge(Duration maxAge, int limit);
+}
@@ -1,5 +1,5 @@
 /*
- *  Copyright 2024 the original authors.
+ *  Copyright 2024-2025 the original authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.github.raedbh.spring.outbox.core;
 
+import java.util.List;
+
 /**
  * @author Raed Ben Hamouda
  * @since 1.0
@@ -23,4 +25,42 @@ package io.github.raedbh.spring.outbox.core;
 public interface OutboxRepository {
 
     void save(OutboxEntry entry);
+
+    /**
+     * Saves the given entries in a single batch.
+     *
+     * <p>Implementations should override this to write all entries in one round trip. The default falls back to
+     * {@link #save(OutboxEntry)} for each entry.</p>
+     *
+     * @param entries the entries to save; must not be {@code null}.
+     */
+    default void saveAll(List<OutboxEntry> entries) {
+        entries.forEach(this::save);
+    }
+
+    /**
+     * Saves the given entries and deletes them again within the current transaction.
+     *
+     * <p>The entries are still recorded in the database log (WAL, binlog or oplog), which is all a change data capture
+     * relay needs, while the outbox table itself stays empty.</p>
+     *
+     * @param entries the entries to save then delete; must not be {@code null}.
+     * @throws UnsupportedOperationException if the repository does not support transient entries.
+     */
+    default void saveAllTransiently(List<OutboxEntry> entries) {
+        throw new UnsupportedOperationException(
+          getClass().getSimpleName() + " does not support transient outbox entries");
+    }
+
+    /**
+     * Marks the given saved entries as published by removing them, so that relays sweeping the outbox do not publish
+     * them again. Entries without an {@linkplain OutboxEntry#getId() assigned id} are ignored.
+     *
+     * @param entries the published entries; must not be {@code null}.
+     * @throws UnsupportedOperationException if the repository does not support marking entries as published.
+     */
+    default void markPublished(List<OutboxEntry> entries) {
+        throw new UnsupportedOperationException(
+          getClass().getSimpleName() + " does not support marking outbox entries as published");
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.core;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Periodically deletes outbox entries older than the configured maximum age.
+ *
+ * <p>Each run removes expired entries in small batches through the {@link OutboxPurger}, pausing between batches so
+ * that the cleanup does not compete with the write path for locks and I/O.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxRetentionScheduler implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRetentionScheduler.class);
+
+    private final OutboxPurger outboxPurger;
+    private final OutboxProperties.Retention retention;
+
+    private ScheduledExecutorService executorService;
+
+
+    OutboxRetentionScheduler(OutboxPurger outboxPurger, OutboxProperties.Retention retention) {
+        this.outboxPurger = outboxPurger;
+        this.retention = retention;
+    }
+
+
+    @Override
+    public synchronized void start() {
+        if (executorService != null) {
+            return;
+        }
+
+        executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long interval = retention.getInterval().toMillis();
+        executorService.scheduleWithFixedDelay(this::purgeExpiredEntries, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executorService == null) {
+            return;
+        }
+
+        executorService.shutdownNow();
+        executorService = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executorService != null;
+    }
+
+    /**
+     * Deletes the entries older than the maximum age, batch by batch, until fewer than a full batch is deleted. The
+     * cutoff is left to the {@link OutboxPurger}, which computes it against the clock of the application.
+     *
+     * @return the total number of deleted entries.
+     */
+    int purgeExpiredEntries() {
+
+        Duration maxAge = retention.getMaxAge();
+        int batchSize = retention.getBatchSize();
+        Duration batchPause = retention.getBatchPause();
+
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = outboxPurger.purge(maxAge, batchSize);
+                total += deleted;
+                if (deleted == batchSize && !batchPause.isZero()) {
+                    Thread.sleep(batchPause.toMillis());
+                }
+            } while (deleted == batchSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to purge outbox entries older than {}, retrying on next run..", maxAge, e);
+        }
+
+        if (total > 0) {
+            LOGGER.info("Purged {} outbox entries older than {}", total, maxAge);
+        }
+        return total;
+    }
+}
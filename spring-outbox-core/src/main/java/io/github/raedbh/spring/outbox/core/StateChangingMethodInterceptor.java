@@ -17,6 +17,12 @@
 package io.github.raedbh.spring.outbox.core;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -27,6 +33,11 @@ import org.springframework.lang.Nullable;
 /**
  * An AOP method interceptor that intercepts state-changing methods on {@link RootEntity} and saves outbox entries.
  *
+ * <p>Both single-entity methods ({@code save}, {@code saveAndFlush}, {@code delete}) and their {@link Iterable}
+ * counterparts ({@code saveAll}, {@code saveAllAndFlush}, {@code deleteAll}, {@code deleteAllInBatch}) are
+ * intercepted. For the latter, the outbox entries of every root entity are written as one batch. Identifier-based
+ * methods such as {@code deleteById} carry no entity instance, hence no assigned event, and are left untouched.</p>
+ *
  * @author Raed Ben Hamouda
  * @since 1.0
  */
@@ -34,38 +45,97 @@ public class StateChangingMethodInterceptor implements MethodInterceptor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StateChangingMethodInterceptor.class);
 
+    private static final Set<String> SINGLE_ENTITY_METHODS = Set.of("save", "saveAndFlush", "delete");
+    private static final Set<String> MULTIPLE_ENTITIES_METHODS =
+      Set.of("saveAll", "saveAllAndFlush", "deleteAll", "deleteAllInBatch");
+
     private final OutboxManager outboxManager;
+    private final Map<Method, StateChange> stateChanges = new ConcurrentHashMap<>();
 
     public StateChangingMethodInterceptor(OutboxManager outboxManager) {
         this.outboxManager = outboxManager;
     }
 
-    private static boolean stateChangingMethod(Method method) {
+    private static StateChange stateChangeOf(Method method) {
+
+        if (method.getParameterCount() != 1) {
+            return StateChange.NONE;
+        }
+
+        if (SINGLE_ENTITY_METHODS.contains(method.getName())) {
+            return StateChange.SINGLE_ENTITY;
+        }
+
+        if (MULTIPLE_ENTITIES_METHODS.contains(method.getName())
+          && Iterable.class.isAssignableFrom(method.getParameterTypes()[0])) {
+            return StateChange.MULTIPLE_ENTITIES;
+        }
 
-        return method.getParameterCount() == 1 &&
-          (method.getName().equals("save") || method.getName().equals("delete"));
+        return StateChange.NONE;
     }
 
     @Override
     @Nullable
     public Object invoke(MethodInvocation invocation) throws Throwable {
 
-        if (!stateChangingMethod(invocation.getMethod())) {
+        StateChange stateChange = stateChanges.computeIfAbsent(invocation.getMethod(),
+          StateChangingMethodInterceptor::stateChangeOf);
+
+        return switch (stateChange) {
+            case SINGLE_ENTITY -> invokeForSingleEntity(invocation);
+            case MULTIPLE_ENTITIES -> invokeForMultipleEntities(invocation);
+            case NONE -> invocation.proceed();
+        };
+    }
+
+    @Nullable
+    private Object invokeForSingleEntity(MethodInvocation invocation) throws Throwable {
+
+        if (!(invocation.getArguments()[0] instanceof RootEntity rootEntity) || rootEntity.withNoEventAssigned()) {
+            return invocation.proceed();
+        }
+
+        return outboxManager.proceedInvocationAndSaveOutboxEntries(rootEntity, proceed(invocation));
+    }
+
+    @Nullable
+    private Object invokeForMultipleEntities(MethodInvocation invocation) throws Throwable {
+
+        if (!(invocation.getArguments()[0] instanceof Iterable<?> entities)) {
             return invocation.proceed();
         }
 
-        RootEntity rootEntity = (RootEntity) invocation.getArguments()[0];
-        if (rootEntity.withNoEventAssigned()) {
+        List<RootEntity> rootEntities = new ArrayList<>();
+        for (Object entity : entities) {
+            if (entity instanceof RootEntity rootEntity && !rootEntity.withNoEventAssigned()) {
+                rootEntities.add(rootEntity);
+            }
+        }
+
+        if (rootEntities.isEmpty()) {
             return invocation.proceed();
         }
 
-        return outboxManager.proceedInvocationAndSaveOutboxEntries(rootEntity, () -> {
+        return outboxManager.proceedInvocationAndSaveOutboxEntries(rootEntities, proceed(invocation));
+    }
+
+    private static Supplier<Object> proceed(MethodInvocation invocation) {
+        return () -> {
             try {
                 LOGGER.info("Proceeding method invocation: {}", invocation.getMethod().getName());
                 return invocation.proceed();
             } catch (Throwable e) {
                 throw new RuntimeException(e);
             }
-        });
+        };
+    }
+
+    private enum StateChange {
+
+        NONE,
+
+        SINGLE_ENTITY,
+
+        MULTIPLE_ENTITIES
     }
 }
@@ -19,6 +19,7 @@ package io.github.raedbh.spring.outbox.core;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.time.Duration;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -50,6 +51,23 @@ class OutboxCoreConfigurationTests {
         });
     }
 
+    @Test
+    void registerRetentionSchedulerWhenEnabled() {
+        contextRunner()
+          .withPropertyValues("spring.outbox.retention.enabled=true", "spring.outbox.retention.max-age=1d")
+          .withBean(OutboxPurger.class, () -> Mockito.mock(OutboxPurger.class))
+          .run(context -> {
+              assertThat(context).hasSingleBean(OutboxRetentionScheduler.class);
+              assertThat(context.getBean(OutboxProperties.class).getRetention().getMaxAge())
+                .isEqualTo(Duration.ofDays(1));
+          });
+    }
+
+    @Test
+    void noRetentionSchedulerByDefault() {
+        contextRunner().run(context -> assertThat(context).doesNotHaveBean(OutboxRetentionScheduler.class));
+    }
+
     @Test
     void useCustomSerializerWhenProvided() {
         contextRunner().withUserConfiguration(CustomSerializerConfiguration.class)
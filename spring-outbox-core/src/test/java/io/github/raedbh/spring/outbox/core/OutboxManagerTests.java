@@ -29,6 +29,8 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import com.acme.eshop.EmailNotification;
@@ -45,8 +47,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.inOrder;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link OutboxManager}.
@@ -84,13 +89,13 @@ class OutboxManagerTests {
 
         outboxManager.proceedInvocationAndSaveOutboxEntries(order, proceedSave);
 
-        ArgumentCaptor<OutboxEntry> entryCaptor = forClass(OutboxEntry.class);
+        ArgumentCaptor<List<OutboxEntry>> entriesCaptor = entriesCaptor();
 
         inOrder.verify(outboxSerializer).serializeToByteArray(order); // called first
         inOrder.verify(proceedSave).get(); // next
-        inOrder.verify(outboxRepository).save(entryCaptor.capture()); // last
+        inOrder.verify(outboxRepository).saveAll(entriesCaptor.capture()); // last
 
-        List<OutboxEntry> savedEntries = entryCaptor.getAllValues();
+        List<OutboxEntry> savedEntries = entriesCaptor.getValue();
         assertThat(savedEntries).hasSize(1);
 
         // validate the main event outbox entry
@@ -120,15 +125,15 @@ class OutboxManagerTests {
 
         outboxManager.proceedInvocationAndSaveOutboxEntries(order, proceedSave);
 
-        ArgumentCaptor<OutboxEntry> entryCaptor = forClass(OutboxEntry.class);
+        ArgumentCaptor<List<OutboxEntry>> entriesCaptor = entriesCaptor();
 
         inOrder.verify(outboxSerializer).serializeToByteArray(order); // called first
         inOrder.verify(outboxSerializer).serializeToByteArray(smsNotification);
         inOrder.verify(outboxSerializer).serializeToByteArray(emailNotification);
         inOrder.verify(proceedSave).get();
-        inOrder.verify(outboxRepository, times(3)).save(entryCaptor.capture()); // last
+        inOrder.verify(outboxRepository).saveAll(entriesCaptor.capture()); // last, in a single batch
 
-        List<OutboxEntry> savedEntries = entryCaptor.getAllValues();
+        List<OutboxEntry> savedEntries = entriesCaptor.getValue();
         assertThat(savedEntries).hasSize(3);
 
         // validate the main event outbox entry
@@ -149,6 +154,116 @@ class OutboxManagerTests {
         assertThat(emailEntry.getType()).isEqualTo(emailNotification.getName());
     }
 
+    @Test
+    void proceedInvocationThenSaveOutboxEntriesForMultipleRootEntitiesInSingleBatch() throws Exception {
+
+        var firstOrder = new Order();
+        var firstOrderPaid = new OrderPaid(firstOrder);
+        firstOrderPaid.addCommand(new SmsNotification());
+        firstOrder.assignEvent(firstOrderPaid);
+
+        var secondOrder = new Order();
+        secondOrder.assignEvent(new OrderPaid(secondOrder));
+
+        InOrder inOrder = inOrder(proceedSave, outboxRepository);
+
+        outboxManager.proceedInvocationAndSaveOutboxEntries(List.of(firstOrder, secondOrder), proceedSave);
+
+        ArgumentCaptor<List<OutboxEntry>> entriesCaptor = entriesCaptor();
+
+        inOrder.verify(proceedSave).get();
+        inOrder.verify(outboxRepository).saveAll(entriesCaptor.capture());
+
+        List<OutboxEntry> savedEntries = entriesCaptor.getValue();
+        assertThat(savedEntries)
+          .extracting(OutboxEntry::getType)
+          .containsExactly("OrderPaid", "SmsNotification", "OrderPaid");
+    }
+
+    @Test
+    void bufferOutboxEntriesOfTransactionAndSaveThemBeforeCommit() {
+
+        var manager = new OutboxManager(outboxRepository, outboxSerializer,
+          new TransactionTemplate(transactionManager), converterRegistry, OutboxFlushMode.BEFORE_COMMIT);
+
+        var firstOrder = new Order();
+        firstOrder.assignEvent(new OrderPaid(firstOrder));
+        var secondOrder = new Order();
+        secondOrder.assignEvent(new OrderPaid(secondOrder, new EmailNotification()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            manager.proceedInvocationAndSaveOutboxEntries(firstOrder, proceedSave);
+            manager.proceedInvocationAndSaveOutboxEntries(secondOrder, proceedSave);
+
+            verify(outboxRepository, never()).saveAll(any());
+
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        ArgumentCaptor<List<OutboxEntry>> entriesCaptor = entriesCaptor();
+        verify(outboxRepository).saveAll(entriesCaptor.capture());
+
+        assertThat(entriesCaptor.getValue())
+          .extracting(OutboxEntry::getType)
+          .containsExactly("OrderPaid", "OrderPaid", "EmailNotification");
+    }
+
+    @Test
+    void saveThenDeleteOutboxEntriesWhenTransient() {
+
+        var manager = new OutboxManager(outboxRepository, outboxSerializer,
+          new TransactionTemplate(transactionManager), converterRegistry, OutboxFlushMode.IMMEDIATE, true);
+
+        var order = new Order();
+        order.assignEvent(new OrderPaid(order, new EmailNotification()));
+
+        manager.proceedInvocationAndSaveOutboxEntries(order, proceedSave);
+
+        verify(outboxRepository, never()).saveAll(any());
+
+        ArgumentCaptor<List<OutboxEntry>> entriesCaptor = entriesCaptor();
+        verify(outboxRepository).saveAllTransiently(entriesCaptor.capture());
+
+        assertThat(entriesCaptor.getValue())
+          .extracting(OutboxEntry::getType)
+          .containsExactly("OrderPaid", "EmailNotification");
+    }
+
+    @Test
+    void handOutboxEntriesToPublisherOnceTransactionCommits() {
+
+        OutboxAfterCommitPublisher afterCommitPublisher = mock(OutboxAfterCommitPublisher.class);
+        var manager = new OutboxManager(outboxRepository, outboxSerializer,
+          new TransactionTemplate(transactionManager), converterRegistry, OutboxFlushMode.IMMEDIATE, false,
+          afterCommitPublisher);
+
+        var order = new Order();
+        order.assignEvent(new OrderPaid(order, new EmailNotification()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            manager.proceedInvocationAndSaveOutboxEntries(order, proceedSave);
+
+            verify(afterCommitPublisher, never()).publish(any());
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        ArgumentCaptor<List<OutboxEntry>> entriesCaptor = entriesCaptor();
+        InOrder inOrder = inOrder(outboxRepository, afterCommitPublisher);
+        inOrder.verify(outboxRepository).saveAll(any());
+        inOrder.verify(afterCommitPublisher).publish(entriesCaptor.capture());
+
+        assertThat(entriesCaptor.getValue())
+          .extracting(OutboxEntry::getType)
+          .containsExactly("OrderPaid", "EmailNotification");
+    }
+
     @Test
     void proceedInvocationThenSaveOutboxEntriesForEventWithConversionToMessageBody() throws Exception {
 
@@ -163,7 +278,7 @@ class OutboxManagerTests {
 
         outboxManager.proceedInvocationAndSaveOutboxEntries(order, proceedSave);
 
-        ArgumentCaptor<OutboxEntry> entryCaptor = forClass(OutboxEntry.class);
+        ArgumentCaptor<List<OutboxEntry>> entriesCaptor = entriesCaptor();
 
         inOrder.verify(outboxSerializer).serializeToByteArray(argThat(argument -> {
             if (argument instanceof OrderMessageBody messageBody) {
@@ -172,9 +287,9 @@ class OutboxManagerTests {
             return false;
         }));
         inOrder.verify(proceedSave).get();
-        inOrder.verify(outboxRepository).save(entryCaptor.capture());
+        inOrder.verify(outboxRepository).saveAll(entriesCaptor.capture());
 
-        List<OutboxEntry> savedEntries = entryCaptor.getAllValues();
+        List<OutboxEntry> savedEntries = entriesCaptor.getValue();
         assertThat(savedEntries).hasSize(1);
 
         // validate the main event outbox entry
@@ -186,4 +301,9 @@ class OutboxManagerTests {
           .containsEntry(OPERATION, orderPaid.getOperation())
           .containsKey(EVENT_OCCURRED_AT);
     }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<OutboxEntry>> entriesCaptor() {
+        return forClass(List.class);
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.core;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link OutboxRetentionScheduler}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRetentionSchedulerTests {
+
+    static final Duration MAX_AGE = Duration.ofDays(7);
+
+    OutboxRetentionScheduler retentionScheduler;
+
+    @Mock OutboxPurger outboxPurger;
+
+    @BeforeEach
+    void setUp() {
+        OutboxProperties.Retention retention = new OutboxProperties.Retention(true, MAX_AGE,
+          Duration.ofMinutes(1), 100, Duration.ZERO);
+        retentionScheduler = new OutboxRetentionScheduler(outboxPurger, retention);
+    }
+
+    @Test
+    void purgeExpiredEntriesInBatchesUntilPartialBatch() {
+
+        given(outboxPurger.purge(MAX_AGE, 100)).willReturn(100, 100, 42);
+
+        int purged = retentionScheduler.purgeExpiredEntries();
+
+        assertThat(purged).isEqualTo(242);
+        verify(outboxPurger, times(3)).purge(MAX_AGE, 100);
+    }
+
+    @Test
+    void stopPurgingWhenNothingExpired() {
+
+        given(outboxPurger.purge(MAX_AGE, 100)).willReturn(0);
+
+        assertThat(retentionScheduler.purgeExpiredEntries()).isZero();
+        verify(outboxPurger, times(1)).purge(MAX_AGE, 100);
+    }
+
+    @Test
+    void keepPurgedCountWhenBatchFails() {
+
+        given(outboxPurger.purge(MAX_AGE, 100))
+          .willReturn(100)
+          .willThrow(new IllegalStateException("lock timeout"));
+
+        assertThat(retentionScheduler.purgeExpiredEntries()).isEqualTo(100);
+    }
+}
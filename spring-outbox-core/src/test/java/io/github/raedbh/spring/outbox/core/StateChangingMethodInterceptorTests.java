@@ -17,6 +17,7 @@
 package io.github.raedbh.spring.outbox.core;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
 import org.aopalliance.intercept.MethodInvocation;
 import org.junit.jupiter.api.Test;
@@ -86,10 +87,54 @@ class StateChangingMethodInterceptorTests {
         verifyNoInteractions(outboxManager);
     }
 
+    @Test
+    void interceptSaveAllInvocationForOutboxManagementOfEntitiesWithAssignedEvents() throws Throwable {
+        Order paidOrder = mock(Order.class);
+        given(paidOrder.withNoEventAssigned()).willReturn(false);
+        Order pendingOrder = new Order();
+
+        Method method = OrderRepository.class.getMethod("saveAll", Iterable.class);
+        given(invocation.getMethod()).willReturn(method);
+        given(invocation.getArguments()).willReturn(new Object[]{List.of(paidOrder, pendingOrder)});
+
+        new StateChangingMethodInterceptor(outboxManager).invoke(invocation);
+
+        verify(outboxManager).proceedInvocationAndSaveOutboxEntries(eq(List.of(paidOrder)), any());
+    }
+
+    @Test
+    void skipSaveAllWhenNoRootEntityHasAssignedEvents() throws Throwable {
+
+        Method method = OrderRepository.class.getMethod("saveAll", Iterable.class);
+        given(invocation.getMethod()).willReturn(method);
+        given(invocation.getArguments()).willReturn(new Object[]{List.of(new Order(), new Order())});
+
+        new StateChangingMethodInterceptor(outboxManager).invoke(invocation);
+
+        verify(invocation).proceed();
+        verifyNoInteractions(outboxManager);
+    }
+
+    @Test
+    void skipForIdentifierBasedDeletion() throws Throwable {
+
+        Method method = OrderRepository.class.getMethod("deleteById", String.class);
+        given(invocation.getMethod()).willReturn(method);
+
+        new StateChangingMethodInterceptor(outboxManager).invoke(invocation);
+
+        verify(invocation).proceed();
+        verifyNoInteractions(outboxManager);
+    }
+
     interface OrderRepository {
 
         void save(Order order);
 
+        void saveAll(Iterable<Order> orders);
+
+        void deleteById(String id);
+
         Order findById(String id);
     }
 }
@@ -22,13 +22,18 @@ import java.util.Map;
 /**
  * Base class for providing and caching message configurations based on outbox types.
  *
+ * <p>Loaded configurations are kept in an immutable routing table that is replaced as a whole when a new type shows
+ * up, so lookups never lock. {@link #reload()} drops the table for configurations to be loaded again.</p>
+ *
  * @author Raed Ben Hamouda
  * @since 1.0
  */
 public abstract class AbstractMessageConfigProvider<T> {
 
     private final String configPrefix;
-    private final Map<String, T> configCache;
+    private final Object loadLock = new Object();
+
+    private volatile Map<String, T> routingTable = Map.of();
 
 
     protected AbstractMessageConfigProvider(String broker) {
@@ -36,7 +41,6 @@ public abstract class AbstractMessageConfigProvider<T> {
             throw new IllegalArgumentException("broker must not be null");
         }
         this.configPrefix = "spring.outbox.connector." + broker + ".messages";
-        this.configCache = new HashMap<>();
     }
 
 
@@ -45,7 +49,31 @@ public abstract class AbstractMessageConfigProvider<T> {
     }
 
     public T getConfig(String outboxType) {
-        return configCache.computeIfAbsent(outboxType, this::loadConfig);
+
+        T config = routingTable.get(outboxType);
+        if (config != null) {
+            return config;
+        }
+
+        synchronized (loadLock) {
+            config = routingTable.get(outboxType);
+            if (config == null) {
+                config = loadConfig(outboxType);
+                Map<String, T> updated = new HashMap<>(routingTable);
+                updated.put(outboxType, config);
+                routingTable = Map.copyOf(updated);
+            }
+            return config;
+        }
+    }
+
+    /**
+     * Drops the loaded configurations, so that each type gets its configuration loaded again on its next lookup.
+     */
+    public void reload() {
+        synchronized (loadLock) {
+            routingTable = Map.of();
+        }
     }
 
     protected abstract T loadConfig(String outboxType);
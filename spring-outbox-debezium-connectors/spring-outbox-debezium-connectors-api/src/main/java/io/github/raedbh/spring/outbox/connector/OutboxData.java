@@ -27,6 +27,7 @@ import java.util.Map;
 public final class OutboxData {
 
     public static final String OUTBOX_ID = "outbox_id";
+    public static final String EVENT_ENTITY_ID = "event_entity_id";
 
     private final String id;
     private final String type;
@@ -25,6 +25,7 @@ import org.bson.BsonDocument;
 import org.bson.BsonValue;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 
 /**
  * Maps {@link Struct} and {@link BsonDocument} record data to {@link OutboxData}.
@@ -34,6 +35,11 @@ import com.fasterxml.jackson.core.type.TypeReference;
  */
 public final class OutboxDataMapper {
 
+    /**
+     * The prefix of the logical decoding messages carrying outbox entries.
+     */
+    public static final String LOGICAL_MESSAGE_PREFIX = "outbox";
+
     private OutboxDataMapper() {}
 
     public static OutboxData toOutboxData(Object recordData) throws Exception {
@@ -53,6 +59,54 @@ public final class OutboxDataMapper {
         return outboxData;
     }
 
+    /**
+     * Maps the {@code message} block of a logical decoding message event to {@link OutboxData}.
+     *
+     * <p>The message content is the JSON document {@code {"id": ..., "type": ..., "payload": <base64>,
+     * "metadata": {...}}} emitted by the outbox repository.</p>
+     *
+     * @param message the {@code message} struct, holding the {@code prefix} and {@code content} fields.
+     * @return the outbox data, or {@code null} if the message does not carry the outbox prefix.
+     */
+    public static OutboxData fromLogicalDecodingMessage(Struct message) throws Exception {
+        if (message == null) {
+            return null;
+        }
+
+        assertFieldExists(message, "prefix");
+        assertFieldExists(message, "content");
+
+        if (!LOGICAL_MESSAGE_PREFIX.equals(message.getString("prefix"))) {
+            return null;
+        }
+
+        JsonNode content = JacksonMapperProvider.getInstance().readTree(message.getBytes("content"));
+
+        String id = content.path("id").asText(null);
+        String type = content.path("type").asText(null);
+        byte[] payload = content.path("payload").binaryValue();
+
+        JsonNode metadataNode = content.get("metadata");
+        Map<String, Object> metadata = metadataNode == null || metadataNode.isNull()
+          ? Collections.emptyMap()
+          : JacksonMapperProvider.getInstance().convertValue(metadataNode, new TypeReference<>() {});
+
+        return new OutboxData(id, type, payload, metadata);
+    }
+
+    /**
+     * Maps the columns of an outbox table row to {@link OutboxData}.
+     *
+     * @param id the entry id.
+     * @param type the entry type.
+     * @param payload the entry payload.
+     * @param metadata the metadata JSON object, or {@code null}.
+     * @return the outbox data.
+     */
+    public static OutboxData fromColumns(String id, String type, byte[] payload, String metadata) throws Exception {
+        return new OutboxData(id, type, payload, metadataFromJson(metadata));
+    }
+
     private static OutboxData fromStruct(Struct recordData) throws Exception {
 
         String id = idFromStruct(recordData);
@@ -131,12 +185,14 @@ public final class OutboxDataMapper {
     private static Map<String, Object> metadataFromStruct(Struct struct) throws Exception {
         assertFieldExists(struct, "metadata");
 
-        String metadata = struct.getString("metadata");
+        return metadataFromJson(struct.getString("metadata"));
+    }
+
+    private static Map<String, Object> metadataFromJson(String metadata) throws Exception {
         if (metadata == null) {
             return Collections.emptyMap();
         }
         return JacksonMapperProvider.getInstance().readValue(metadata, new TypeReference<>() {});
-
     }
 
     private static Map<String, Object> metadataFromBsonDocument(BsonDocument bsonDocument) {
@@ -0,0 +1,40 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector;
+
+import java.util.Map;
+
+/**
+ * Contributes settings to the Debezium engine of the connector before it is created, typically settings of the
+ * offset backing store that must match the configuration of the message producer.
+ *
+ * <p>Settings already present come from the connector configuration or the additional properties, and should be
+ * kept as they are.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface OutboxEngineSettingsCustomizer {
+
+    /**
+     * Customizes the settings of the engine.
+     *
+     * @param settings the mutable settings of the engine.
+     */
+    void customize(Map<String, Object> settings);
+}
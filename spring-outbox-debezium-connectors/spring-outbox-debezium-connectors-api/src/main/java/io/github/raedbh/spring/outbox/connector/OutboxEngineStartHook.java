@@ -0,0 +1,38 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector;
+
+/**
+ * Prepares the source database before the Debezium engine of the connector starts reading its changes, typically by
+ * creating database objects the connector relies on.
+ *
+ * <p>Hooks are invoked in order on the engine thread, right before the engine runs, rather than while the connector
+ * configuration is created. A failing hook prevents the engine from starting.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface OutboxEngineStartHook {
+
+    /**
+     * Invoked before the engine starts.
+     *
+     * @throws Exception if the source database could not be prepared.
+     */
+    void beforeStart() throws Exception;
+}
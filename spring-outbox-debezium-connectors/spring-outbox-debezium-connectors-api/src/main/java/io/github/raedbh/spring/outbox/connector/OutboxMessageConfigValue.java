@@ -0,0 +1,112 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.lang.Nullable;
+
+/**
+ * A message configuration value, such as a topic or a routing key, either static or derived from each outbox message
+ * through a SpEL expression.
+ *
+ * <p>Expressions are parsed once, when the configuration of a type is loaded, and evaluated against the
+ * {@link OutboxData} (its {@code id}, {@code type} and {@code metadata}) in a read-only data binding context that
+ * allows instance method calls but no type references, e.g. {@code 'orders.' + metadata['event_entity_type']}.
+ * They are compiled to bytecode once they have been interpreted a few times.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+public final class OutboxMessageConfigValue {
+
+    private static final OutboxMessageConfigValue UNDEFINED = new OutboxMessageConfigValue(null, null);
+
+    private static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
+      new SpelParserConfiguration(SpelCompilerMode.MIXED, OutboxMessageConfigValue.class.getClassLoader()));
+
+    private static final EvaluationContext EVALUATION_CONTEXT =
+      SimpleEvaluationContext.forReadOnlyDataBinding().withInstanceMethods().build();
+
+    @Nullable private final String value;
+    @Nullable private final Expression expression;
+
+
+    private OutboxMessageConfigValue(@Nullable String value, @Nullable Expression expression) {
+        this.value = value;
+        this.expression = expression;
+    }
+
+
+    /**
+     * Creates a configuration value, the expression taking precedence over the static value when both are given.
+     *
+     * @param value the static value, may be {@code null}.
+     * @param expression the SpEL expression, may be {@code null}.
+     * @return the configuration value.
+     * @throws org.springframework.expression.ParseException if the expression is invalid.
+     */
+    public static OutboxMessageConfigValue of(@Nullable String value, @Nullable String expression) {
+        if (value == null && expression == null) {
+            return UNDEFINED;
+        }
+        return new OutboxMessageConfigValue(value,
+          expression != null ? EXPRESSION_PARSER.parseExpression(expression) : null);
+    }
+
+    public static OutboxMessageConfigValue of(@Nullable String value) {
+        return of(value, null);
+    }
+
+    public boolean isDefined() {
+        return value != null || expression != null;
+    }
+
+    /**
+     * Resolves the value for the given outbox message.
+     *
+     * @return the expression result as a string, or the static value if there is no expression.
+     */
+    @Nullable
+    public String resolve(OutboxData outboxData) {
+        if (expression == null) {
+            return value;
+        }
+        Object result = expression.getValue(EVALUATION_CONTEXT, outboxData);
+        return result != null ? result.toString() : null;
+    }
+
+    @Nullable
+    public String getValue() {
+        return value;
+    }
+
+    @Nullable
+    public Expression getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression != null ? "#{" + expression.getExpressionString() + "}" : String.valueOf(value);
+    }
+}
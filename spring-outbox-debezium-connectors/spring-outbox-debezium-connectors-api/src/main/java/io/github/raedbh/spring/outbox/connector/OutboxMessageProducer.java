@@ -16,6 +16,8 @@
 
 package io.github.raedbh.spring.outbox.connector;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Defines a producer for sending outbox messages to a message broker.
  *
@@ -25,4 +27,34 @@ package io.github.raedbh.spring.outbox.connector;
 public interface OutboxMessageProducer {
 
     void produceMessage(OutboxData outboxData);
+
+    /**
+     * Sends the outbox message and returns a future completed once the broker acknowledged it.
+     *
+     * <p>The default implementation delegates to {@link #produceMessage(OutboxData)} and completes as soon as it
+     * returns, which only fits producers sending synchronously.</p>
+     *
+     * @param outboxData the outbox data to send.
+     * @return a future completed on acknowledgement, or completed exceptionally if the message could not be sent, with
+     * a {@link FatalDeliveryException} if sending it again cannot succeed.
+     */
+    default CompletableFuture<Void> produceMessageAcknowledged(OutboxData outboxData) {
+        try {
+            produceMessage(outboxData);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Thrown when a message failed to be sent in a way that sending it again cannot fix, such as a message too large
+     * for the broker or that cannot be serialized.
+     */
+    class FatalDeliveryException extends RuntimeException {
+
+        public FatalDeliveryException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
 }
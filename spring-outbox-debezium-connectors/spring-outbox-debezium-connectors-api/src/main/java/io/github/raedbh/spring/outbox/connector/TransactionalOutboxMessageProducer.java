@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector;
+
+import java.util.List;
+
+/**
+ * An {@link OutboxMessageProducer} able to send the messages of a batch and the source offsets reached by the batch
+ * in a single broker transaction, so that each outbox entry is published exactly once.
+ *
+ * <p>The offsets must be stored where the offset backing store of the connector reads them back on startup, so that
+ * a restart resumes right after the last committed transaction.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+public interface TransactionalOutboxMessageProducer extends OutboxMessageProducer {
+
+    /**
+     * Sends the outbox messages and the source offsets atomically: either all of them are committed, or none of them
+     * is visible to transactional consumers.
+     *
+     * @param outboxData the outbox data of the batch, in order.
+     * @param sourceOffsets the source offsets reached by the batch, serialized as by the offset backing store.
+     * @throws FatalTransactionException if the transaction failed and can never succeed when sent again.
+     * @throws RuntimeException if the transaction could not be committed, in which case it was aborted.
+     */
+    void produceMessagesInTransaction(List<OutboxData> outboxData, List<SourceOffset> sourceOffsets);
+
+    /**
+     * A source offset serialized as a key/value pair of the offset backing store.
+     *
+     * @param key the serialized source partition, namespaced by the connector name.
+     * @param value the serialized source offset.
+     */
+    record SourceOffset(byte[] key, byte[] value) {}
+
+    /**
+     * Thrown when a transaction failed in a way that sending it again cannot fix, such as a producer fenced by another
+     * instance or a message that cannot be serialized.
+     */
+    class FatalTransactionException extends RuntimeException {
+
+        public FatalTransactionException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
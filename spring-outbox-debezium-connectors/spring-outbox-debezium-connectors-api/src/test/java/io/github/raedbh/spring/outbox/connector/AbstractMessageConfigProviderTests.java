@@ -16,6 +16,14 @@
 
 package io.github.raedbh.spring.outbox.connector;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -52,14 +60,46 @@ class AbstractMessageConfigProviderTests {
         assertThat(config1).isSameAs(config2);
     }
 
+    @Test
+    void loadConfigAgainAfterReload() {
+        TestProducerConfig config = provider.getConfig("OrderCreated");
+
+        provider.reload();
+
+        assertThat(provider.getConfig("OrderCreated")).isNotSameAs(config).isEqualTo(config);
+    }
+
+    @Test
+    void loadConfigOnceUnderConcurrentLookups() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<TestProducerConfig>> lookups = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String type = "Type" + (i % 10);
+                lookups.add(executor.submit(() -> provider.getConfig(type)));
+            }
+            for (Future<TestProducerConfig> lookup : lookups) {
+                lookup.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(provider.loads).hasValue(10);
+    }
+
     static class TestMessageConfigProvider extends AbstractMessageConfigProvider<TestProducerConfig> {
 
+        final AtomicInteger loads = new AtomicInteger();
+
         TestMessageConfigProvider(String broker) {
             super(broker);
         }
 
         @Override
         protected TestProducerConfig loadConfig(String outboxType) {
+            loads.incrementAndGet();
             return new TestProducerConfig(outboxType);
         }
     }
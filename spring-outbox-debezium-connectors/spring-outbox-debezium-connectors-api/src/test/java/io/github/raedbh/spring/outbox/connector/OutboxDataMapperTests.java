@@ -16,7 +16,9 @@
 
 package io.github.raedbh.spring.outbox.connector;
 
+import java.nio.charset.StandardCharsets;
 import java.util.AbstractMap.SimpleEntry;
+import java.util.Base64;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
@@ -63,6 +65,24 @@ class OutboxDataMapperTests {
         assertThat(outboxData.getMetadata()).isEmpty();
     }
 
+    @Test
+    void fromLogicalDecodingMessage() throws Exception {
+
+        String content = "{\"id\":\"12345\",\"type\":\"Type\",\"payload\":\""
+          + Base64.getEncoder().encodeToString("The Payload".getBytes()) + "\",\"metadata\":{\"key\":\"value\"}}";
+
+        outboxData = OutboxDataMapper.fromLogicalDecodingMessage(message("outbox", content));
+
+        assertThat(
+          new Object[]{outboxData.getId(), outboxData.getType(), outboxData.getPayload(), outboxData.getMetadata()})
+          .containsExactly("12345", "Type", "The Payload".getBytes(), singletonMap("key", "value"));
+    }
+
+    @Test
+    void ignoreLogicalDecodingMessageWithForeignPrefix() throws Exception {
+        assertThat(OutboxDataMapper.fromLogicalDecodingMessage(message("audit", "{}"))).isNull();
+    }
+
     @Test
     void fromBson() throws Exception {
         BsonDocument bsonDocument = new BsonDocument();
@@ -84,6 +104,18 @@ class OutboxDataMapperTests {
         assertThat(OutboxDataMapper.toOutboxData(null)).isNull();
     }
 
+    @Test
+    void fromColumns() throws Exception {
+
+        outboxData = OutboxDataMapper.fromColumns("12345", "Type", "The Payload".getBytes(), "{\"key\": \"value\"}");
+
+        assertThat(
+          new Object[]{outboxData.getId(), outboxData.getType(), outboxData.getPayload(), outboxData.getMetadata()})
+          .containsExactly("12345", "Type", "The Payload".getBytes(), singletonMap("key", "value"));
+        assertThat(OutboxDataMapper.fromColumns("12345", "Type", "The Payload".getBytes(), null).getMetadata())
+          .isEmpty();
+    }
+
 
     private Struct struct() {
         var struct = new Struct(schema());
@@ -101,4 +133,15 @@ class OutboxDataMapperTests {
           .field("metadata", Schema.OPTIONAL_STRING_SCHEMA)
           .build();
     }
+
+    private static Struct message(String prefix, String content) {
+        Schema schema = SchemaBuilder.struct()
+          .field("prefix", Schema.STRING_SCHEMA)
+          .field("content", Schema.BYTES_SCHEMA)
+          .build();
+
+        return new Struct(schema)
+          .put("prefix", prefix)
+          .put("content", content.getBytes(StandardCharsets.UTF_8));
+    }
 }
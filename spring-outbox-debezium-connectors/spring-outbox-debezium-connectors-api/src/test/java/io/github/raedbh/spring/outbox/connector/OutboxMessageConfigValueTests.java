@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.ParseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Unit tests for {@link OutboxMessageConfigValue}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxMessageConfigValueTests {
+
+    private final OutboxData outboxData = new OutboxData("1a2b3c", "OrderPaid", new byte[]{1},
+      Map.of("event_entity_type", "Order", "operation", "pay"));
+
+    @Test
+    void resolveStaticValue() {
+
+        OutboxMessageConfigValue value = OutboxMessageConfigValue.of("orders");
+
+        assertThat(value.isDefined()).isTrue();
+        assertThat(value.resolve(outboxData)).isEqualTo("orders");
+    }
+
+    @Test
+    void resolveExpressionAgainstOutboxData() {
+
+        OutboxMessageConfigValue value = OutboxMessageConfigValue.of("ignored",
+          "metadata['event_entity_type'].toLowerCase() + '.' + metadata['operation']");
+
+        for (int i = 0; i < 5; i++) { // interpreted first, then compiled
+            assertThat(value.resolve(outboxData)).isEqualTo("order.pay");
+        }
+    }
+
+    @Test
+    void resolveNullForMissingMetadata() {
+        assertThat(OutboxMessageConfigValue.of(null, "metadata['missing']").resolve(outboxData)).isNull();
+    }
+
+    @Test
+    void undefinedValueResolvesToNull() {
+
+        OutboxMessageConfigValue value = OutboxMessageConfigValue.of(null, null);
+
+        assertThat(value.isDefined()).isFalse();
+        assertThat(value.resolve(outboxData)).isNull();
+    }
+
+    @Test
+    void rejectInvalidExpression() {
+        assertThatExceptionOfType(ParseException.class)
+          .isThrownBy(() -> OutboxMessageConfigValue.of(null, "metadata["));
+    }
+}
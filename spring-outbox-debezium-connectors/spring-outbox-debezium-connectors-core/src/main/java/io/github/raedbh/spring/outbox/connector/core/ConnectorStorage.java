@@ -0,0 +1,150 @@
+/*
+ *  Copyright 2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import io.github.raedbh.spring.outbox.connector.core.OutboxConnectorProperties.DatabaseProperties;
+import io.github.raedbh.spring.outbox.connector.core.OutboxConnectorProperties.OffsetStorageProperties;
+import io.github.raedbh.spring.outbox.connector.core.OutboxConnectorProperties.SchemaHistoryProperties;
+
+import static java.util.Objects.requireNonNullElse;
+
+/**
+ * Builds the Debezium settings of the offset store and schema history of a connector, according to their
+ * {@link OutboxConnectorProperties.StorageType storage type}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+public final class ConnectorStorage {
+
+    static final String JDBC_OFFSET_STORE = "io.debezium.storage.jdbc.offset.JdbcOffsetBackingStore";
+    static final String JDBC_SCHEMA_HISTORY = "io.debezium.storage.jdbc.history.JdbcSchemaHistory";
+    static final String MONGODB_OFFSET_STORE = "io.github.raedbh.spring.outbox.connector.mongo.MongoOffsetBackingStore";
+
+    private ConnectorStorage() {}
+
+    /**
+     * Settings of the offset store.
+     *
+     * @param props the connector properties.
+     * @param connector the short name of the connector, used to name the default local files.
+     * @param jdbcUrl the JDBC URL of the outbox database, or {@code null} for MongoDB.
+     * @return the {@code offset.storage} settings.
+     */
+    public static Map<String, Object> offsetStorage(OutboxConnectorProperties props, String connector,
+      @Nullable String jdbcUrl) {
+
+        OffsetStorageProperties offsetStorage = props.getOffsetStorage();
+        DatabaseProperties database = props.getDatabase();
+
+        Map<String, Object> configMap = new HashMap<>();
+        switch (offsetStorage.getType()) {
+            case JDBC -> {
+                if (jdbcUrl == null) {
+                    throw new IllegalStateException("jdbc offset storage is not supported by the " + connector
+                      + " connector");
+                }
+                configMap.put("offset.storage", JDBC_OFFSET_STORE);
+                configMap.put("offset.storage.jdbc.connection.url", jdbcUrl);
+                configMap.put("offset.storage.jdbc.connection.user", database.getUser());
+                configMap.put("offset.storage.jdbc.connection.password", database.getPassword());
+                if (offsetStorage.getTableName() != null) {
+                    configMap.put("offset.storage.jdbc.offset.table.name", offsetStorage.getTableName());
+                }
+            }
+            case MONGODB -> {
+                if (jdbcUrl != null) {
+                    throw new IllegalStateException("mongodb offset storage is not supported by the " + connector
+                      + " connector");
+                }
+                configMap.put("offset.storage", MONGODB_OFFSET_STORE);
+                configMap.put("offset.storage.mongodb.connection.string", database.getUrl());
+                configMap.put("offset.storage.mongodb.database", database.getDbname());
+                if (database.getUser() != null) {
+                    configMap.put("offset.storage.mongodb.user", database.getUser());
+                    configMap.put("offset.storage.mongodb.password", database.getPassword());
+                }
+                if (offsetStorage.getTableName() != null) {
+                    configMap.put("offset.storage.mongodb.collection", offsetStorage.getTableName());
+                }
+            }
+            case FILE -> {
+                configMap.put("offset.storage", offsetStorage.getClassName());
+                try {
+                    configMap.put("offset.storage.file.filename",
+                      requireNonNullElse(offsetStorage.getFilePath(),
+                        File.createTempFile("outbox-" + connector + "-offset-", ".dat").getAbsolutePath()));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+                if (offsetStorage.getTopic() != null) {
+                    configMap.put("offset.storage.topic", offsetStorage.getTopic());
+                }
+            }
+        }
+        return configMap;
+    }
+
+    /**
+     * Settings of the schema history.
+     *
+     * @param props the connector properties.
+     * @param connector the short name of the connector, used to name the default local files.
+     * @param jdbcUrl the JDBC URL of the outbox database.
+     * @return the {@code schema.history.internal} settings.
+     */
+    public static Map<String, Object> schemaHistory(OutboxConnectorProperties props, String connector,
+      String jdbcUrl) {
+
+        SchemaHistoryProperties schemaHistory = props.getSchemaHistory();
+        DatabaseProperties database = props.getDatabase();
+
+        Map<String, Object> configMap = new HashMap<>();
+        switch (schemaHistory.getType()) {
+            case JDBC -> {
+                configMap.put("schema.history.internal", JDBC_SCHEMA_HISTORY);
+                configMap.put("schema.history.internal.jdbc.connection.url", jdbcUrl);
+                configMap.put("schema.history.internal.jdbc.connection.user", database.getUser());
+                configMap.put("schema.history.internal.jdbc.connection.password", database.getPassword());
+                if (schemaHistory.getTableName() != null) {
+                    configMap.put("schema.history.internal.jdbc.schema.history.table.name",
+                      schemaHistory.getTableName());
+                }
+            }
+            case MONGODB -> throw new IllegalStateException("mongodb schema history is not supported, "
+              + "the schema history of the " + connector + " connector can only be stored in files or with jdbc");
+            case FILE -> {
+                configMap.put("schema.history.internal", schemaHistory.getClassName());
+                try {
+                    configMap.put("schema.history.internal.file.filename",
+                      requireNonNullElse(schemaHistory.getFilePath(),
+                        File.createTempFile("outbox-" + connector + "-schema-history-", ".dat").getAbsolutePath()));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+        return configMap;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.core;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounds the outbox messages sent to the broker and not acknowledged yet, both in count and in payload bytes.
+ *
+ * <p>A message larger than the byte bound is still let through once the window is empty, so that it cannot block the
+ * engine forever.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class InFlightWindow {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private final int maxMessages;
+    private final long maxBytes;
+
+    private int messages;
+    private long bytes;
+
+
+    InFlightWindow(int maxMessages, long maxBytes) {
+        if (maxMessages < 1) {
+            throw new IllegalArgumentException("maxMessages must be greater than 0");
+        }
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("maxBytes must be greater than 0");
+        }
+        this.maxMessages = maxMessages;
+        this.maxBytes = maxBytes;
+    }
+
+
+    /**
+     * Takes a slot for a message of the given size, waiting for acknowledgements to free the window if it is full.
+     *
+     * @return {@code false} if no slot was freed within the given timeout.
+     */
+    boolean tryAcquire(long size, Duration timeout) throws InterruptedException {
+        long remainingNanos = timeout.toNanos();
+        lock.lockInterruptibly();
+        try {
+            while (messages > 0 && (messages >= maxMessages || bytes + size > maxBytes)) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = released.awaitNanos(remainingNanos);
+            }
+            messages++;
+            bytes += size;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees the slot of an acknowledged, or abandoned, message of the given size.
+     */
+    void release(long size) {
+        lock.lock();
+        try {
+            messages--;
+            bytes -= size;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getMessages() {
+        lock.lock();
+        try {
+            return messages;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getBytes() {
+        lock.lock();
+        try {
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getMaxMessages() {
+        return maxMessages;
+    }
+
+    long getMaxBytes() {
+        return maxBytes;
+    }
+}
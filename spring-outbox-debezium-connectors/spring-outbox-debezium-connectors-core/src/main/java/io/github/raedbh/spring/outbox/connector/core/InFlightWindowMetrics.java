@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.core;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the occupancy of the in-flight windows of the lanes of an {@link OutboxDebeziumEngine}, summed up.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class InFlightWindowMetrics implements MeterBinder {
+
+    private final List<InFlightWindow> inFlightWindows;
+
+
+    InFlightWindowMetrics(List<InFlightWindow> inFlightWindows) {
+        this.inFlightWindows = inFlightWindows;
+    }
+
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("spring.outbox.connector.in-flight.messages", this, InFlightWindowMetrics::messages)
+          .description("Outbox messages sent to the broker and not acknowledged yet")
+          .register(registry);
+        Gauge.builder("spring.outbox.connector.in-flight.bytes", this, InFlightWindowMetrics::bytes)
+          .description("Payload size of the outbox messages sent to the broker and not acknowledged yet")
+          .baseUnit("bytes")
+          .register(registry);
+        Gauge.builder("spring.outbox.connector.in-flight.usage", this, InFlightWindowMetrics::usage)
+          .description("Occupancy of the in-flight window, the highest of its message and byte ratios")
+          .register(registry);
+    }
+
+    private double messages() {
+        return inFlightWindows.stream().mapToInt(InFlightWindow::getMessages).sum();
+    }
+
+    private double bytes() {
+        return inFlightWindows.stream().mapToLong(InFlightWindow::getBytes).sum();
+    }
+
+    private double usage() {
+        return Math.max(messages() / inFlightWindows.stream().mapToInt(InFlightWindow::getMaxMessages).sum(),
+          bytes() / inFlightWindows.stream().mapToLong(InFlightWindow::getMaxBytes).sum());
+    }
+}
@@ -16,12 +16,20 @@
 
 package io.github.raedbh.spring.outbox.connector.core;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
 import io.debezium.config.Configuration;
+import io.github.raedbh.spring.outbox.connector.OutboxEngineSettingsCustomizer;
+import io.github.raedbh.spring.outbox.connector.OutboxEngineStartHook;
 import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
 /**
  * @author Raed Ben Hamouda
@@ -33,8 +41,30 @@ public class OutboxConnectorCoreAutoConfiguration {
 
     @Bean
     OutboxDebeziumEngine outboxDebeziumEngine(Configuration configuration,
-      OutboxMessageProducer outboxMessageProducer) {
+      OutboxMessageProducer outboxMessageProducer, OutboxConnectorProperties outboxConnectorProperties,
+      ObjectProvider<OutboxEngineSettingsCustomizer> settingsCustomizers,
+      ObjectProvider<OutboxEngineStartHook> startHooks) {
+
+        return new OutboxDebeziumEngine(customize(configuration, settingsCustomizers), outboxMessageProducer,
+          outboxConnectorProperties.getDelivery(), outboxConnectorProperties.getDeduplication(),
+          startHooks.orderedStream().toList());
+    }
+
+    static Configuration customize(Configuration configuration,
+      ObjectProvider<OutboxEngineSettingsCustomizer> settingsCustomizers) {
+
+        Map<String, Object> settings = new HashMap<>(configuration.asMap());
+        settingsCustomizers.orderedStream().forEach(customizer -> customizer.customize(settings));
+        return Configuration.from(settings);
+    }
+
+    @org.springframework.context.annotation.Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class InFlightWindowMetricsConfiguration {
 
-        return new OutboxDebeziumEngine(configuration, outboxMessageProducer);
+        @Bean
+        InFlightWindowMetrics outboxInFlightWindowMetrics(OutboxDebeziumEngine outboxDebeziumEngine) {
+            return new InFlightWindowMetrics(outboxDebeziumEngine.getInFlightWindows());
+        }
     }
 }
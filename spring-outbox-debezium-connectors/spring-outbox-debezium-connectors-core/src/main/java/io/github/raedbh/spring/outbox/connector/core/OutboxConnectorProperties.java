@@ -16,10 +16,14 @@
 
 package io.github.raedbh.spring.outbox.connector.core;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import io.github.raedbh.spring.outbox.connector.OutboxData;
 
 /**
  * Configuration properties for the outbox connector.
@@ -33,6 +37,8 @@ public class OutboxConnectorProperties {
     private DatabaseProperties database = new DatabaseProperties();
     private OffsetStorageProperties offsetStorage = new OffsetStorageProperties();
     private SchemaHistoryProperties schemaHistory = new SchemaHistoryProperties();
+    private DeliveryProperties delivery = new DeliveryProperties();
+    private DeduplicationProperties deduplication = new DeduplicationProperties();
 
     private String topicPrefix = "outbox";
     private String snapshotMode = "initial";
@@ -64,6 +70,22 @@ public class OutboxConnectorProperties {
         this.schemaHistory = schemaHistory;
     }
 
+    public DeliveryProperties getDelivery() {
+        return delivery;
+    }
+
+    public void setDelivery(DeliveryProperties delivery) {
+        this.delivery = delivery;
+    }
+
+    public DeduplicationProperties getDeduplication() {
+        return deduplication;
+    }
+
+    public void setDeduplication(DeduplicationProperties deduplication) {
+        this.deduplication = deduplication;
+    }
+
     public String getTopicPrefix() {
         return topicPrefix;
     }
@@ -106,6 +128,8 @@ public class OutboxConnectorProperties {
         private String user;
         private String password;
         private String schema;
+        private boolean binlogOnly;
+        private boolean partitioned;
 
         public Integer getClientId() {
             return clientId;
@@ -171,12 +195,51 @@ public class OutboxConnectorProperties {
             this.schema = schema;
         }
 
+        /**
+         * Whether the outbox table only exists in the binary log (MySQL {@code BLACKHOLE} engine), in which case there
+         * is no row to snapshot.
+         */
+        public boolean isBinlogOnly() {
+            return binlogOnly;
+        }
+
+        public void setBinlogOnly(boolean binlogOnly) {
+            this.binlogOnly = binlogOnly;
+        }
+
+        /**
+         * Whether the outbox table is partitioned (PostgreSQL), in which case changes must be published under the
+         * partitioned table rather than under each partition.
+         */
+        public boolean isPartitioned() {
+            return partitioned;
+        }
+
+        public void setPartitioned(boolean partitioned) {
+            this.partitioned = partitioned;
+        }
+
     }
 
     public static class OffsetStorageProperties {
 
+        private StorageType type = StorageType.FILE;
         private String className = "org.apache.kafka.connect.storage.FileOffsetBackingStore";
         private String filePath;
+        private String topic;
+        private String tableName;
+
+        /**
+         * Where the offsets are stored. {@code jdbc} and {@code mongodb} store them in the database of the outbox,
+         * while {@code file} uses the offset store of {@link #getClassName()}, a local file by default.
+         */
+        public StorageType getType() {
+            return type;
+        }
+
+        public void setType(StorageType type) {
+            this.type = type;
+        }
 
         public String getClassName() {
             return className;
@@ -193,12 +256,50 @@ public class OutboxConnectorProperties {
         public void setFilePath(String filePath) {
             this.filePath = filePath;
         }
+
+        /**
+         * The topic holding the offsets of Kafka-based offset stores, such as the one used by the transactional Kafka
+         * connector.
+         */
+        public String getTopic() {
+            return topic;
+        }
+
+        public void setTopic(String topic) {
+            this.topic = topic;
+        }
+
+        /**
+         * The table, or collection with {@code mongodb}, holding the offsets in the database of the outbox.
+         */
+        public String getTableName() {
+            return tableName;
+        }
+
+        public void setTableName(String tableName) {
+            this.tableName = tableName;
+        }
     }
 
     public static class SchemaHistoryProperties {
 
+        private StorageType type = StorageType.FILE;
         private String className = "io.debezium.storage.file.history.FileSchemaHistory";
         private String filePath;
+        private String tableName;
+
+        /**
+         * Where the schema history is stored. {@code jdbc} stores it in the database of the outbox, while {@code file}
+         * uses the schema history of {@link #getClassName()}, a local file by default. Not used by MongoDB, which has
+         * no schema history.
+         */
+        public StorageType getType() {
+            return type;
+        }
+
+        public void setType(StorageType type) {
+            this.type = type;
+        }
 
         public String getClassName() {
             return className;
@@ -215,5 +316,192 @@ public class OutboxConnectorProperties {
         public void setFilePath(String filePath) {
             this.filePath = filePath;
         }
+
+        /**
+         * The table holding the schema history in the database of the outbox.
+         */
+        public String getTableName() {
+            return tableName;
+        }
+
+        public void setTableName(String tableName) {
+            this.tableName = tableName;
+        }
+    }
+
+    public static class DeliveryProperties {
+
+        private Duration ackTimeout = Duration.ofSeconds(30);
+        private Duration retryBackoff = Duration.ofSeconds(1);
+        private Duration maxRetryBackoff = Duration.ofMinutes(1);
+        private int maxDeliveryRetries = 10;
+        private int maxTransactionRetries = 10;
+        private int maxInFlightMessages = 1000;
+        private DataSize maxInFlightBytes = DataSize.ofMegabytes(32);
+        private int lanes = 1;
+        private String orderingKey = OutboxData.EVENT_ENTITY_ID;
+
+        /**
+         * The maximum time to wait for the broker to acknowledge the messages of a batch before sending the
+         * unacknowledged ones again.
+         */
+        public Duration getAckTimeout() {
+            return ackTimeout;
+        }
+
+        public void setAckTimeout(Duration ackTimeout) {
+            this.ackTimeout = ackTimeout;
+        }
+
+        /**
+         * The delay before the first retry of unacknowledged messages, doubled on each consecutive retry.
+         */
+        public Duration getRetryBackoff() {
+            return retryBackoff;
+        }
+
+        public void setRetryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+        }
+
+        /**
+         * The upper bound of the delay between two retries.
+         */
+        public Duration getMaxRetryBackoff() {
+            return maxRetryBackoff;
+        }
+
+        public void setMaxRetryBackoff(Duration maxRetryBackoff) {
+            this.maxRetryBackoff = maxRetryBackoff;
+        }
+
+        /**
+         * The maximum number of times unacknowledged messages are sent again before the engine stops.
+         */
+        public int getMaxDeliveryRetries() {
+            return maxDeliveryRetries;
+        }
+
+        public void setMaxDeliveryRetries(int maxDeliveryRetries) {
+            this.maxDeliveryRetries = maxDeliveryRetries;
+        }
+
+        /**
+         * The maximum number of times an aborted transaction of a transactional message producer is sent again before
+         * the engine stops.
+         */
+        public int getMaxTransactionRetries() {
+            return maxTransactionRetries;
+        }
+
+        public void setMaxTransactionRetries(int maxTransactionRetries) {
+            this.maxTransactionRetries = maxTransactionRetries;
+        }
+
+        /**
+         * The maximum number of messages sent to the broker and not acknowledged yet. Record consumption pauses while
+         * the window is full.
+         */
+        public int getMaxInFlightMessages() {
+            return maxInFlightMessages;
+        }
+
+        public void setMaxInFlightMessages(int maxInFlightMessages) {
+            this.maxInFlightMessages = maxInFlightMessages;
+        }
+
+        /**
+         * The maximum payload size of the messages sent to the broker and not acknowledged yet.
+         */
+        public DataSize getMaxInFlightBytes() {
+            return maxInFlightBytes;
+        }
+
+        public void setMaxInFlightBytes(DataSize maxInFlightBytes) {
+            this.maxInFlightBytes = maxInFlightBytes;
+        }
+
+        /**
+         * The number of worker lanes publishing messages in parallel. Messages sharing the same ordering key always go
+         * through the same lane.
+         */
+        public int getLanes() {
+            return lanes;
+        }
+
+        public void setLanes(int lanes) {
+            this.lanes = lanes;
+        }
+
+        /**
+         * The metadata entry used to dispatch messages onto lanes, preserving the order of the messages sharing it.
+         */
+        public String getOrderingKey() {
+            return orderingKey;
+        }
+
+        public void setOrderingKey(String orderingKey) {
+            this.orderingKey = orderingKey;
+        }
+    }
+
+    public static class DeduplicationProperties {
+
+        private boolean enabled;
+        private String directory;
+        private Duration window = Duration.ofHours(24);
+        private int maxEntries = 500_000;
+
+        /**
+         * Whether to skip the outbox messages already published, as recorded in a local index of outbox ids, when
+         * change events are delivered again after a restart or by a new snapshot.
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * The directory where the index of published outbox ids is persisted, required when deduplication is
+         * enabled. It must outlive restarts of the application, e.g. a persistent volume in a container.
+         */
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        /**
+         * How long a published outbox id is remembered.
+         */
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        /**
+         * The maximum number of outbox ids remembered, bounding the memory of the index to about 32 bytes per id.
+         * The oldest ids are forgotten first once it is reached.
+         */
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    public enum StorageType {
+
+        FILE, JDBC, MONGODB
     }
 }
@@ -17,18 +17,38 @@
 package io.github.raedbh.spring.outbox.connector.core;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 
 import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.json.JsonConverter;
+import org.apache.kafka.connect.json.JsonConverterConfig;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
 
+import io.debezium.DebeziumException;
 import io.debezium.config.Configuration;
 import io.debezium.data.Envelope.FieldName;
 import io.debezium.data.Envelope.Operation;
@@ -38,7 +58,12 @@ import io.debezium.engine.RecordChangeEvent;
 import io.debezium.engine.format.ChangeEventFormat;
 import io.github.raedbh.spring.outbox.connector.OutboxData;
 import io.github.raedbh.spring.outbox.connector.OutboxDataMapper;
+import io.github.raedbh.spring.outbox.connector.OutboxEngineStartHook;
 import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
+import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer.FatalDeliveryException;
+import io.github.raedbh.spring.outbox.connector.TransactionalOutboxMessageProducer;
+import io.github.raedbh.spring.outbox.connector.TransactionalOutboxMessageProducer.FatalTransactionException;
+import io.github.raedbh.spring.outbox.connector.TransactionalOutboxMessageProducer.SourceOffset;
 
 /**
  * A Debezium engine that captures database changes and produces outbox messages.
@@ -50,34 +75,478 @@ public class OutboxDebeziumEngine {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OutboxDebeziumEngine.class);
 
+    private static final String MESSAGE_FIELD = "message";
+    static final String TOMBSTONES_ON_DELETE = "tombstones.on.delete";
+
     private final ExecutorService executorService;
     private final DebeziumEngine<RecordChangeEvent<SourceRecord>> debeziumEngine;
     private final OutboxMessageProducer messageProducer;
+    private final OutboxConnectorProperties.DeliveryProperties delivery;
+    private final List<InFlightWindow> inFlightWindows;
+    @Nullable private final ExecutorService laneExecutor;
+    private final String offsetNamespace;
+    @Nullable private final PublishedIndex publishedIndex;
+    private final List<OutboxEngineStartHook> startHooks;
 
     public OutboxDebeziumEngine(Configuration configuration, OutboxMessageProducer messageProducer) {
+        this(configuration, messageProducer, new OutboxConnectorProperties.DeliveryProperties());
+    }
+
+    public OutboxDebeziumEngine(Configuration configuration, OutboxMessageProducer messageProducer,
+      OutboxConnectorProperties.DeliveryProperties delivery) {
+        this(configuration, messageProducer, delivery, new OutboxConnectorProperties.DeduplicationProperties());
+    }
+
+    public OutboxDebeziumEngine(Configuration configuration, OutboxMessageProducer messageProducer,
+      OutboxConnectorProperties.DeliveryProperties delivery,
+      OutboxConnectorProperties.DeduplicationProperties deduplication) {
+        this(configuration, messageProducer, delivery, deduplication, List.of());
+    }
+
+    public OutboxDebeziumEngine(Configuration configuration, OutboxMessageProducer messageProducer,
+      OutboxConnectorProperties.DeliveryProperties delivery,
+      OutboxConnectorProperties.DeduplicationProperties deduplication, List<OutboxEngineStartHook> startHooks) {
+
+        if (delivery.getLanes() < 1) {
+            throw new IllegalArgumentException("lanes must be greater than 0");
+        }
+        if (delivery.getLanes() > 1 && messageProducer instanceof TransactionalOutboxMessageProducer) {
+            throw new IllegalArgumentException("lanes are not supported by transactional message producers, "
+              + "each batch is sent in a single transaction");
+        }
 
         this.executorService = Executors.newSingleThreadExecutor();
         this.debeziumEngine = DebeziumEngine.create(ChangeEventFormat.of(Connect.class))
-          .using(configuration.asProperties())
-          .notifying(this::onRecordChanged)
+          .using(engineProperties(configuration))
+          .notifying(this::handleBatch)
           .build();
         this.messageProducer = messageProducer;
+        this.delivery = delivery;
+        this.inFlightWindows = newInFlightWindows(delivery);
+        this.laneExecutor = delivery.getLanes() > 1 ? newLaneExecutor(delivery.getLanes()) : null;
+        this.offsetNamespace = configuration.getString("name");
+        this.publishedIndex = deduplication.isEnabled() ? openPublishedIndex(deduplication) : null;
+        this.startHooks = List.copyOf(startHooks);
+    }
+
+    /**
+     * The properties of the Debezium engine: the settings shared by all connectors, overridden by the given ones.
+     */
+    static Properties engineProperties(Configuration configuration) {
+
+        Properties properties = new Properties();
+        // outbox rows are only ever deleted after being captured, so their deletion needs no tombstone
+        properties.setProperty(TOMBSTONES_ON_DELETE, "false");
+        properties.putAll(configuration.asProperties());
+        return properties;
+    }
+
+    private static PublishedIndex openPublishedIndex(OutboxConnectorProperties.DeduplicationProperties deduplication) {
+
+        if (deduplication.getDirectory() == null) {
+            throw new IllegalArgumentException("spring.outbox.connector.deduplication.directory must be set "
+              + "when deduplication is enabled");
+        }
+
+        Path directory = Path.of(deduplication.getDirectory()).toAbsolutePath().normalize();
+        if (directory.startsWith(Path.of(System.getProperty("java.io.tmpdir")).toAbsolutePath().normalize())) {
+            LOGGER.warn("The published index is kept in the temporary directory {}, which may not survive restarts",
+              directory);
+        }
+        try {
+            return new PublishedIndex(directory, deduplication.getWindow(), deduplication.getMaxEntries(),
+              Clock.systemUTC());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open the published index in " + directory, e);
+        }
+    }
+
+    /**
+     * Splits the in-flight window between the lanes, so that a slow ordering key can only fill the share of its own
+     * lane and never blocks the other lanes.
+     */
+    private static List<InFlightWindow> newInFlightWindows(OutboxConnectorProperties.DeliveryProperties delivery) {
+
+        int lanes = delivery.getLanes();
+        int maxMessages = Math.max(1, (delivery.getMaxInFlightMessages() + lanes - 1) / lanes);
+        long maxBytes = Math.max(1, (delivery.getMaxInFlightBytes().toBytes() + lanes - 1) / lanes);
+
+        List<InFlightWindow> windows = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            windows.add(new InFlightWindow(maxMessages, maxBytes));
+        }
+        return List.copyOf(windows);
+    }
+
+    private static ExecutorService newLaneExecutor(int lanes) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(lanes, runnable -> {
+            Thread thread = new Thread(runnable, "outbox-dispatch-lane-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sends the outbox messages of a whole batch of change events and marks the events as processed as their messages
+     * get acknowledged by the broker, so that the committed offset never goes past the lowest unacknowledged one.
+     *
+     * <p>With more than one lane, messages are dispatched onto the lanes by the hash of their ordering key, so that
+     * the messages of the same aggregate are published in order while different aggregates are published in parallel.
+     * Messages without an ordering key all go to the first lane.</p>
+     *
+     * @throws DebeziumException if a message failed fatally or was still not acknowledged after the maximum number of
+     * retries, which stops the engine.
+     */
+    void handleBatch(List<RecordChangeEvent<SourceRecord>> changeEvents,
+      DebeziumEngine.RecordCommitter<RecordChangeEvent<SourceRecord>> committer) throws InterruptedException {
+
+        if (messageProducer instanceof TransactionalOutboxMessageProducer transactionalProducer) {
+            handleBatchInTransaction(changeEvents, committer, transactionalProducer);
+            return;
+        }
+
+        List<List<PendingMessage>> lanes = new ArrayList<>(delivery.getLanes());
+        for (int i = 0; i < delivery.getLanes(); i++) {
+            lanes.add(new ArrayList<>());
+        }
+
+        List<PendingMessage> messages = new ArrayList<>(changeEvents.size());
+        for (RecordChangeEvent<SourceRecord> changeEvent : changeEvents) {
+            OutboxData outboxData = toOutboxData(changeEvent);
+            if (outboxData == null || isPublished(outboxData)) {
+                messages.add(null);
+                continue;
+            }
+            PendingMessage message = new PendingMessage(outboxData);
+            lanes.get(laneOf(outboxData)).add(message);
+            messages.add(message);
+        }
+
+        if (laneExecutor == null) {
+            deliver(lanes.get(0), inFlightWindows.get(0));
+        } else {
+            for (int i = 0; i < lanes.size(); i++) {
+                List<PendingMessage> lane = lanes.get(i);
+                InFlightWindow inFlightWindow = inFlightWindows.get(i);
+                if (!lane.isEmpty()) {
+                    laneExecutor.execute(() -> deliverOrAbort(lane, inFlightWindow));
+                }
+            }
+        }
+
+        for (int i = 0; i < changeEvents.size(); i++) {
+            PendingMessage message = messages.get(i);
+            if (message != null) {
+                awaitDelivery(message.delivered);
+                markPublished(message.outboxData);
+            }
+            committer.markProcessed(changeEvents.get(i));
+        }
+        flushPublishedIndex();
+        committer.markBatchFinished();
+    }
+
+    /**
+     * Sends the outbox messages of a whole batch of change events along with the source offsets reached by the batch
+     * in a single transaction, sent again with an exponential backoff until it commits, then marks the events as
+     * processed.
+     *
+     * @throws DebeziumException if the transaction failed fatally or was still aborted after the maximum number of
+     * retries, which stops the engine.
+     */
+    private void handleBatchInTransaction(List<RecordChangeEvent<SourceRecord>> changeEvents,
+      DebeziumEngine.RecordCommitter<RecordChangeEvent<SourceRecord>> committer,
+      TransactionalOutboxMessageProducer transactionalProducer) throws InterruptedException {
+
+        List<OutboxData> batch = new ArrayList<>(changeEvents.size());
+        Map<Map<String, ?>, Map<String, ?>> sourceOffsets = new LinkedHashMap<>();
+        for (RecordChangeEvent<SourceRecord> changeEvent : changeEvents) {
+            OutboxData outboxData = toOutboxData(changeEvent);
+            if (outboxData != null && !isPublished(outboxData)) {
+                batch.add(outboxData);
+            }
+            SourceRecord changeEventRecord = changeEvent.record();
+            if (changeEventRecord.sourcePartition() != null && changeEventRecord.sourceOffset() != null) {
+                sourceOffsets.put(changeEventRecord.sourcePartition(), changeEventRecord.sourceOffset());
+            }
+        }
+
+        List<SourceOffset> serializedOffsets = serialize(sourceOffsets);
+        long retryBackoff = delivery.getRetryBackoff().toMillis();
+        int retries = 0;
+        while (true) {
+            try {
+                transactionalProducer.produceMessagesInTransaction(batch, serializedOffsets);
+                break;
+            } catch (FatalTransactionException e) {
+                throw new DebeziumException("Transaction of " + batch.size() + " outbox messages failed and cannot "
+                  + "be retried, stopping the engine", e);
+            } catch (RuntimeException e) {
+                if (retries++ >= delivery.getMaxTransactionRetries()) {
+                    throw new DebeziumException("Transaction of " + batch.size() + " outbox messages still aborted "
+                      + "after " + delivery.getMaxTransactionRetries() + " retries, stopping the engine", e);
+                }
+                LOGGER.warn("Transaction of {} outbox messages aborted, retrying in {} ms.. Cause: {}",
+                  batch.size(), retryBackoff, e.getMessage());
+                Thread.sleep(retryBackoff);
+                retryBackoff = Math.min(retryBackoff * 2, delivery.getMaxRetryBackoff().toMillis());
+            }
+        }
+
+        batch.forEach(this::markPublished);
+        flushPublishedIndex();
+        for (RecordChangeEvent<SourceRecord> changeEvent : changeEvents) {
+            committer.markProcessed(changeEvent);
+        }
+        committer.markBatchFinished();
+    }
+
+    private boolean isPublished(OutboxData outboxData) {
+
+        if (publishedIndex == null || !publishedIndex.contains(outboxData.getId())) {
+            return false;
+        }
+
+        LOGGER.info("Outbox message {} already published, skipping...", outboxData.getId());
+        return true;
+    }
+
+    private void markPublished(OutboxData outboxData) {
+        if (publishedIndex != null) {
+            try {
+                publishedIndex.add(outboxData.getId());
+            } catch (IOException e) {
+                // at worst, the message is published again after a restart
+                LOGGER.warn("Failed to record outbox message {} as published: {}", outboxData.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private void flushPublishedIndex() {
+        if (publishedIndex != null) {
+            try {
+                publishedIndex.flush();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to flush the published index: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Serializes source offsets the way the offset storage writer of the engine does, as JSON without schemas, with
+     * the source partition namespaced by the connector name.
+     */
+    private List<SourceOffset> serialize(Map<Map<String, ?>, Map<String, ?>> sourceOffsets) {
+
+        if (sourceOffsets.isEmpty()) {
+            return List.of();
+        }
+
+        try (JsonConverter keyConverter = new JsonConverter(); JsonConverter valueConverter = new JsonConverter()) {
+            Map<String, Object> converterConfig = Map.of(JsonConverterConfig.SCHEMAS_ENABLE_CONFIG, false);
+            keyConverter.configure(converterConfig, true);
+            valueConverter.configure(converterConfig, false);
+
+            List<SourceOffset> serialized = new ArrayList<>(sourceOffsets.size());
+            sourceOffsets.forEach((partition, offset) -> serialized.add(new SourceOffset(
+              keyConverter.fromConnectData(offsetNamespace, null, Arrays.asList(offsetNamespace, partition)),
+              valueConverter.fromConnectData(offsetNamespace, null, offset))));
+            return serialized;
+        }
     }
 
-    void onRecordChanged(RecordChangeEvent<SourceRecord> changeEvent) {
+    private int laneOf(OutboxData outboxData) {
+
+        if (laneExecutor == null || outboxData.getMetadata() == null) {
+            return 0;
+        }
+
+        Object key = outboxData.getMetadata().get(delivery.getOrderingKey());
+        return key == null ? 0 : Math.floorMod(key.toString().hashCode(), delivery.getLanes());
+    }
+
+    private void deliverOrAbort(List<PendingMessage> lane, InFlightWindow inFlightWindow) {
+        try {
+            deliver(lane, inFlightWindow);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lane.forEach(message -> message.delivered.completeExceptionally(e));
+        } catch (DebeziumException e) {
+            lane.forEach(message -> message.delivered.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Waits for the delivery of a message.
+     *
+     * @throws InterruptedException if the current thread or the lane delivering the message was interrupted.
+     * @throws DebeziumException if the delivery failed for any other reason, which stops the engine.
+     */
+    private static void awaitDelivery(CompletableFuture<Void> delivery) throws InterruptedException {
+        try {
+            delivery.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InterruptedException interrupted) {
+                throw interrupted;
+            }
+            throw new DebeziumException("Outbox message delivery failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Sends the messages of a lane through its share of the in-flight window until the broker acknowledged all of
+     * them.
+     *
+     * <p>When a message is not acknowledged within the ack timeout, it is sent again with an exponential backoff along
+     * with all the messages following it in the lane, acknowledged or not, in their original order, so that a message
+     * never reaches the broker after a later message of the same aggregate.</p>
+     *
+     * @throws DebeziumException if a message failed fatally or was still not acknowledged after the maximum number of
+     * retries, which stops the engine.
+     */
+    private void deliver(List<PendingMessage> lane, InFlightWindow inFlightWindow) throws InterruptedException {
+
+        List<PendingMessage> pending = lane;
+        long retryBackoff = delivery.getRetryBackoff().toMillis();
+        int retries = 0;
+        while (!pending.isEmpty()) {
+
+            pending = produceAndAwaitAcknowledgements(pending, inFlightWindow);
+            if (!pending.isEmpty()) {
+                if (retries++ >= delivery.getMaxDeliveryRetries()) {
+                    throw new DebeziumException("Outbox message " + pending.get(0).outboxData.getId() + " still not "
+                      + "acknowledged after " + delivery.getMaxDeliveryRetries() + " retries, stopping the engine");
+                }
+                LOGGER.warn("{} outbox messages to send again, retrying in {} ms..", pending.size(), retryBackoff);
+                Thread.sleep(retryBackoff);
+                retryBackoff = Math.min(retryBackoff * 2, delivery.getMaxRetryBackoff().toMillis());
+            }
+        }
+    }
+
+    /**
+     * Sends the given messages as long as the in-flight window allows it, then waits for their acknowledgements.
+     *
+     * <p>When the window is full, sending pauses until acknowledgements free it up. Messages that could not get into
+     * the window within the ack timeout are left unsent.</p>
+     *
+     * <p>The delivery of each message acknowledged along with all the preceding ones is completed.</p>
+     *
+     * @return the messages from the first one that was not acknowledged onward, in their original order.
+     * @throws DebeziumException if the first message that was not acknowledged failed fatally.
+     */
+    private List<PendingMessage> produceAndAwaitAcknowledgements(List<PendingMessage> batch,
+      InFlightWindow inFlightWindow) throws InterruptedException {
+
+        List<CompletableFuture<Void>> acknowledgements = new ArrayList<>(batch.size());
+        List<Runnable> releases = new ArrayList<>(batch.size());
+        for (PendingMessage message : batch) {
+
+            long size = message.outboxData.getPayload().length;
+            if (!inFlightWindow.tryAcquire(size, delivery.getAckTimeout())) {
+                LOGGER.warn("In-flight window still full after {}, pausing the batch..", delivery.getAckTimeout());
+                break;
+            }
+
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    inFlightWindow.release(size);
+                }
+            };
+
+            CompletableFuture<Void> acknowledgement;
+            try {
+                acknowledgement = messageProducer.produceMessageAcknowledged(message.outboxData);
+            } catch (RuntimeException e) {
+                acknowledgement = CompletableFuture.failedFuture(e);
+            }
+            acknowledgement.whenComplete((result, throwable) -> release.run());
+
+            acknowledgements.add(acknowledgement);
+            releases.add(release);
+        }
+
+        try {
+            CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new))
+              .get(delivery.getAckTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            LOGGER.error("Failed to send outbox messages: {}", e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            LOGGER.error("Outbox messages not acknowledged within {}", delivery.getAckTimeout());
+        }
+
+        int acknowledged = 0;
+        while (acknowledged < acknowledgements.size() && isAcknowledged(acknowledgements.get(acknowledged))) {
+            batch.get(acknowledged).delivered.complete(null);
+            acknowledged++;
+        }
+        for (int i = acknowledged; i < acknowledgements.size(); i++) {
+            if (!acknowledgements.get(i).isDone()) {
+                // abandoned, the message is sent again
+                releases.get(i).run();
+            }
+        }
+
+        if (acknowledged < acknowledgements.size()) {
+            FatalDeliveryException fatalFailure = fatalFailureOf(acknowledgements.get(acknowledged));
+            if (fatalFailure != null) {
+                throw new DebeziumException("Outbox message " + batch.get(acknowledged).outboxData.getId()
+                  + " failed and cannot be sent again, stopping the engine", fatalFailure);
+            }
+        }
+        return new ArrayList<>(batch.subList(acknowledged, batch.size()));
+    }
+
+    private static boolean isAcknowledged(CompletableFuture<Void> acknowledgement) {
+        return acknowledgement.isDone() && !acknowledgement.isCompletedExceptionally();
+    }
+
+    @Nullable
+    private static FatalDeliveryException fatalFailureOf(CompletableFuture<Void> acknowledgement) {
+
+        if (!acknowledgement.isCompletedExceptionally()) {
+            return null;
+        }
+
+        try {
+            acknowledgement.join();
+        } catch (CompletionException | CancellationException e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof FatalDeliveryException fatalFailure) {
+                    return fatalFailure;
+                }
+            }
+        }
+        return null;
+    }
+
+    List<InFlightWindow> getInFlightWindows() {
+        return inFlightWindows;
+    }
+
+    /**
+     * Maps a change event to the outbox data to send.
+     *
+     * @return the outbox data, or {@code null} if the change event does not carry a new outbox entry.
+     */
+    @Nullable
+    OutboxData toOutboxData(RecordChangeEvent<SourceRecord> changeEvent) {
 
         SourceRecord changeEventRecord = changeEvent.record();
 
         Struct struct = (Struct) changeEventRecord.value();
         if (struct == null) {
-            LOGGER.error("Struct cannot be null for the change event, skipping...");
-            return;
+            // tombstone following the deletion of an outbox row, when re-enabled with tombstones.on.delete
+            LOGGER.debug("Tombstone change event detected, skipping... Key: {}", changeEventRecord.key());
+            return null;
         }
 
         Operation operation = extractOperation(struct);
         if (operation == null) {
             LOGGER.error("Operation field not found in struct: {}, skipping...", struct);
-            return;
+            return null;
         }
 
         if (operation == Operation.READ || operation == Operation.CREATE) {
@@ -87,7 +556,7 @@ public class OutboxDebeziumEngine {
             Object recordData = struct.get(FieldName.AFTER);
             if (recordData == null) {
                 LOGGER.error("Missing 'after' field for operation: {}, skipping...", operation);
-                return;
+                return null;
             }
 
             OutboxData outboxData;
@@ -97,19 +566,43 @@ public class OutboxDebeziumEngine {
 
                 if (outboxData == null) {
                     LOGGER.error("outboxData must not be null, skipping...");
-                    return;
+                    return null;
                 }
             } catch (Exception e) {
                 LOGGER.error("Failed to map record data to outboxData, skipping...", e);
-                return;
+                return null;
             }
 
-            messageProducer.produceMessage(outboxData);
+            return outboxData;
+
+        } else if (operation == Operation.MESSAGE) {
 
+            LOGGER.info("Processing logical decoding message [struct: {}]", struct);
+
+            OutboxData outboxData;
+            try {
+
+                outboxData = OutboxDataMapper.fromLogicalDecodingMessage(struct.getStruct(MESSAGE_FIELD));
+
+                if (outboxData == null) {
+                    LOGGER.debug("Logical decoding message is not an outbox entry, skipping...");
+                    return null;
+                }
+            } catch (Exception e) {
+                LOGGER.error("Failed to map logical decoding message to outboxData, skipping...", e);
+                return null;
+            }
+
+            return outboxData;
+
+        } else if (operation == Operation.DELETE) {
+            // outbox rows are deleted once relayed or right after insertion (transient entries)
+            LOGGER.debug("DELETE operation detected. No action required. Key: {}", changeEventRecord.key());
         } else {
             LOGGER.info("{} operation detected. No action required. Key: {} | Struct: {}",
               operation, changeEventRecord.key(), struct);
         }
+        return null;
     }
 
     private Operation extractOperation(Struct struct) {
@@ -127,9 +620,12 @@ public class OutboxDebeziumEngine {
     }
 
     @PostConstruct
-    private void start() {
+    void start() {
         executorService.submit(() -> {
             try {
+                for (OutboxEngineStartHook startHook : startHooks) {
+                    startHook.beforeStart();
+                }
                 debeziumEngine.run();
             } catch (Exception e) {
                 LOGGER.error("Debezium Engine failed: {}", e.getMessage(), e);
@@ -148,6 +644,13 @@ public class OutboxDebeziumEngine {
         }
 
         shutdownGracefully();
+        if (laneExecutor != null) {
+            // lanes may be waiting for acknowledgements or retrying, there is nothing left to commit for them
+            laneExecutor.shutdownNow();
+        }
+        if (publishedIndex != null) {
+            publishedIndex.close();
+        }
 
         LOGGER.info("Debezium Engine and Executor Service stopped successfully.");
     }
@@ -165,4 +668,14 @@ public class OutboxDebeziumEngine {
             Thread.currentThread().interrupt();
         }
     }
+
+    private static final class PendingMessage {
+
+        private final OutboxData outboxData;
+        private final CompletableFuture<Void> delivered = new CompletableFuture<>();
+
+        private PendingMessage(OutboxData outboxData) {
+            this.outboxData = outboxData;
+        }
+    }
 }
@@ -0,0 +1,375 @@
+/*
+ *  Copyright 2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+/**
+ * A bounded index of the outbox ids already published, persisted to a local directory so that it survives restarts.
+ *
+ * <p>Ids are kept as 128-bit keys, the bits of the id itself when it is a UUID and its MD5 digest otherwise, in a few
+ * generations of open-addressing hash tables, each covering a slice of the time window and holding a share of the
+ * maximum entries. A new generation starts once the current one is full or its time slice is over, the oldest one
+ * being dropped, so memory stays bounded and ids are forgotten oldest first.</p>
+ *
+ * <p>Each generation is backed by an append-only file of 16-byte keys, flushed by {@link #flush()}. A crash may lose
+ * the keys added since the last flush, whose messages are then published again: the index only ever errs on the
+ * side of duplicates.</p>
+ *
+ * <p>Not thread-safe, the index is confined to the engine thread.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class PublishedIndex implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PublishedIndex.class);
+
+    static final int GENERATIONS = 4;
+
+    private static final String FILE_PREFIX = "published-";
+    private static final String FILE_SUFFIX = ".idx";
+    private static final int KEY_BYTES = 16;
+
+    private final Path directory;
+    private final long generationMillis;
+    private final int generationCapacity;
+    private final Clock clock;
+
+    // oldest first
+    private final Deque<Generation> generations = new ArrayDeque<>(GENERATIONS + 1);
+
+
+    PublishedIndex(Path directory, Duration window, int maxEntries, Clock clock) throws IOException {
+
+        if (window.toMillis() < GENERATIONS) {
+            throw new IllegalArgumentException("window must be at least " + GENERATIONS + " ms");
+        }
+        if (maxEntries < GENERATIONS) {
+            throw new IllegalArgumentException("maxEntries must be at least " + GENERATIONS);
+        }
+
+        this.directory = directory;
+        this.generationMillis = window.toMillis() / GENERATIONS;
+        this.generationCapacity = maxEntries / GENERATIONS;
+        this.clock = clock;
+
+        Files.createDirectories(directory);
+        load();
+    }
+
+
+    /**
+     * Whether the given outbox id was published within the time window.
+     */
+    boolean contains(String outboxId) {
+
+        expire(clock.millis());
+
+        Key key = Key.of(outboxId);
+        for (Generation generation : generations) {
+            if (generation.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records the given outbox id as published.
+     */
+    void add(String outboxId) throws IOException {
+
+        Key key = Key.of(outboxId);
+        for (Generation generation : generations) {
+            if (generation.contains(key)) {
+                return;
+            }
+        }
+
+        currentGeneration(clock.millis()).add(key);
+    }
+
+    /**
+     * Writes the ids added so far to the file of the current generation.
+     */
+    void flush() throws IOException {
+        Generation current = generations.peekLast();
+        if (current != null) {
+            current.flush();
+        }
+    }
+
+    int size() {
+        return generations.stream().mapToInt(generation -> generation.size).sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        Generation current = generations.peekLast();
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    private Generation currentGeneration(long now) throws IOException {
+
+        Generation current = generations.peekLast();
+        if (current != null && !current.isFull() && now - current.startMillis < generationMillis) {
+            return current;
+        }
+
+        long startMillis = now;
+        if (current != null) {
+            current.close();
+            // generation files are named after their start, which must be unique
+            startMillis = Math.max(now, current.startMillis + 1);
+        }
+
+        Generation next = new Generation(directory.resolve(FILE_PREFIX + startMillis + FILE_SUFFIX), startMillis,
+          generationCapacity);
+        generations.addLast(next);
+        while (generations.size() > GENERATIONS) {
+            drop(generations.removeFirst());
+        }
+        return next;
+    }
+
+    private void expire(long now) {
+        while (!generations.isEmpty() && isExpired(generations.peekFirst(), now)) {
+            drop(generations.removeFirst());
+        }
+    }
+
+    private boolean isExpired(Generation generation, long now) {
+        return now - generation.startMillis >= generationMillis * GENERATIONS;
+    }
+
+    private void drop(Generation generation) {
+        try {
+            generation.close();
+            Files.deleteIfExists(generation.file);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete published index file {}: {}", generation.file, e.getMessage());
+        }
+    }
+
+    private void load() throws IOException {
+
+        List<Path> files;
+        try (Stream<Path> paths = Files.list(directory)) {
+            files = paths
+              .filter(path -> startMillisOf(path) != null)
+              .sorted(Comparator.comparing(PublishedIndex::startMillisOf))
+              .toList();
+        }
+
+        long now = clock.millis();
+        List<Path> kept = new ArrayList<>(files);
+        for (Path file : files) {
+            if (now - startMillisOf(file) >= generationMillis * GENERATIONS || kept.size() > GENERATIONS) {
+                Files.deleteIfExists(file);
+                kept.remove(file);
+            }
+        }
+
+        for (Path file : kept) {
+            long keys = Files.size(file) / KEY_BYTES;
+            if (Files.size(file) % KEY_BYTES != 0) {
+                // key partially written before a crash, later keys must stay aligned
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(keys * KEY_BYTES);
+                }
+            }
+            Generation generation = new Generation(file, startMillisOf(file),
+              (int) Math.max(generationCapacity, keys));
+            try (InputStream inputStream = Files.newInputStream(file);
+                 DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream))) {
+                for (long i = 0; i < keys; i++) {
+                    generation.put(new Key(in.readLong(), in.readLong()));
+                }
+            }
+            generations.addLast(generation);
+        }
+
+        LOGGER.info("Loaded {} published outbox ids from {}", size(), directory);
+    }
+
+    @Nullable
+    private static Long startMillisOf(Path file) {
+
+        String name = file.getFileName().toString();
+        if (!name.startsWith(FILE_PREFIX) || !name.endsWith(FILE_SUFFIX)) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A 128-bit outbox id key, never all zeros which marks the empty slots of a table.
+     */
+    record Key(long high, long low) {
+
+        static Key of(String outboxId) {
+
+            if (isUuid(outboxId)) {
+                UUID uuid = UUID.fromString(outboxId);
+                return nonZero(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+            }
+
+            byte[] digest = md5(outboxId.getBytes(StandardCharsets.UTF_8));
+            long high = 0;
+            long low = 0;
+            for (int i = 0; i < 8; i++) {
+                high = (high << 8) | (digest[i] & 0xff);
+                low = (low << 8) | (digest[i + 8] & 0xff);
+            }
+            return nonZero(high, low);
+        }
+
+        private static Key nonZero(long high, long low) {
+            return high == 0 && low == 0 ? new Key(0, 1) : new Key(high, low);
+        }
+
+        private static boolean isUuid(String id) {
+            return id.length() == 36
+              && id.charAt(8) == '-' && id.charAt(13) == '-' && id.charAt(18) == '-' && id.charAt(23) == '-';
+        }
+
+        private static byte[] md5(byte[] bytes) {
+            try {
+                return MessageDigest.getInstance("MD5").digest(bytes);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("MD5 not supported", e);
+            }
+        }
+
+        int hash() {
+            long hash = (high ^ low) * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32));
+        }
+    }
+
+    private static final class Generation {
+
+        private final Path file;
+        private final long startMillis;
+        private final int capacity;
+        private final long[] table;
+        private final int mask;
+
+        private int size;
+        @Nullable private DataOutputStream out;
+
+        private Generation(Path file, long startMillis, int capacity) {
+            this.file = file;
+            this.startMillis = startMillis;
+            this.capacity = capacity;
+            // at most half full, keys stored as pairs of longs
+            int slots = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+            this.table = new long[slots * 2];
+            this.mask = slots - 1;
+        }
+
+        private boolean isFull() {
+            return size >= capacity;
+        }
+
+        private boolean contains(Key key) {
+            for (int slot = key.hash() & mask; ; slot = (slot + 1) & mask) {
+                long high = table[slot * 2];
+                long low = table[slot * 2 + 1];
+                if (high == 0 && low == 0) {
+                    return false;
+                }
+                if (high == key.high() && low == key.low()) {
+                    return true;
+                }
+            }
+        }
+
+        private void put(Key key) {
+            for (int slot = key.hash() & mask; ; slot = (slot + 1) & mask) {
+                long high = table[slot * 2];
+                long low = table[slot * 2 + 1];
+                if (high == 0 && low == 0) {
+                    table[slot * 2] = key.high();
+                    table[slot * 2 + 1] = key.low();
+                    size++;
+                    return;
+                }
+                if (high == key.high() && low == key.low()) {
+                    return;
+                }
+            }
+        }
+
+        private void add(Key key) throws IOException {
+            put(key);
+            if (out == null) {
+                out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+                  StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+            }
+            out.writeLong(key.high());
+            out.writeLong(key.low());
+        }
+
+        private void flush() throws IOException {
+            if (out != null) {
+                out.flush();
+            }
+        }
+
+        private void close() throws IOException {
+            if (out != null) {
+                out.close();
+                out = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright 2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.core;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.raedbh.spring.outbox.connector.core.OutboxConnectorProperties.StorageType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Unit tests for {@link ConnectorStorage}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class ConnectorStorageTests {
+
+    static final String JDBC_URL = "jdbc:postgresql://localhost:5432/shop";
+
+    OutboxConnectorProperties props = new OutboxConnectorProperties();
+
+    @BeforeEach
+    void setUp() {
+        props.getDatabase().setUser("outbox");
+        props.getDatabase().setPassword("secret");
+        props.getDatabase().setDbname("shop");
+    }
+
+    @Test
+    void storeOffsetsInLocalFileByDefault() {
+
+        Map<String, Object> configMap = ConnectorStorage.offsetStorage(props, "postgres", JDBC_URL);
+
+        assertThat(configMap).containsEntry("offset.storage", props.getOffsetStorage().getClassName());
+        assertThat((String) configMap.get("offset.storage.file.filename")).contains("outbox-postgres-offset-");
+    }
+
+    @Test
+    void storeOffsetsInOutboxDatabaseWithJdbc() {
+
+        props.getOffsetStorage().setType(StorageType.JDBC);
+        props.getOffsetStorage().setTableName("outbox_offsets");
+
+        assertThat(ConnectorStorage.offsetStorage(props, "postgres", JDBC_URL))
+          .containsExactlyInAnyOrderEntriesOf(Map.of(
+          "offset.storage", ConnectorStorage.JDBC_OFFSET_STORE,
+          "offset.storage.jdbc.connection.url", JDBC_URL,
+          "offset.storage.jdbc.connection.user", "outbox",
+          "offset.storage.jdbc.connection.password", "secret",
+          "offset.storage.jdbc.offset.table.name", "outbox_offsets"));
+    }
+
+    @Test
+    void storeOffsetsInOutboxDatabaseWithMongodb() {
+
+        props.getDatabase().setUrl("mongodb://localhost:27017/?replicaSet=rs0");
+        props.getOffsetStorage().setType(StorageType.MONGODB);
+
+        assertThat(ConnectorStorage.offsetStorage(props, "mongo", null)).containsExactlyInAnyOrderEntriesOf(Map.of(
+          "offset.storage", ConnectorStorage.MONGODB_OFFSET_STORE,
+          "offset.storage.mongodb.connection.string", "mongodb://localhost:27017/?replicaSet=rs0",
+          "offset.storage.mongodb.database", "shop",
+          "offset.storage.mongodb.user", "outbox",
+          "offset.storage.mongodb.password", "secret"));
+    }
+
+    @Test
+    void rejectStorageTypeNotMatchingTheConnector() {
+
+        props.getOffsetStorage().setType(StorageType.JDBC);
+        assertThatIllegalStateException().isThrownBy(() -> ConnectorStorage.offsetStorage(props, "mongo", null));
+
+        props.getOffsetStorage().setType(StorageType.MONGODB);
+        assertThatIllegalStateException().isThrownBy(() -> ConnectorStorage.offsetStorage(props, "mysql", JDBC_URL));
+
+        props.getSchemaHistory().setType(StorageType.MONGODB);
+        assertThatIllegalStateException().isThrownBy(() -> ConnectorStorage.schemaHistory(props, "mysql", JDBC_URL));
+    }
+
+    @Test
+    void storeSchemaHistoryInOutboxDatabaseWithJdbc() {
+
+        props.getSchemaHistory().setType(StorageType.JDBC);
+
+        assertThat(ConnectorStorage.schemaHistory(props, "mysql", JDBC_URL)).containsExactlyInAnyOrderEntriesOf(Map.of(
+          "schema.history.internal", ConnectorStorage.JDBC_SCHEMA_HISTORY,
+          "schema.history.internal.jdbc.connection.url", JDBC_URL,
+          "schema.history.internal.jdbc.connection.user", "outbox",
+          "schema.history.internal.jdbc.connection.password", "secret"));
+    }
+}
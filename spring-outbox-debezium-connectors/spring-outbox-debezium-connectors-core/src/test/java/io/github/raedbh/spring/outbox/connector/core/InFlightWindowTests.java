@@ -0,0 +1,112 @@
+/*
+ *  Copyright 2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Unit tests for {@link InFlightWindow}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class InFlightWindowTests {
+
+    @Test
+    void refuseNonPositiveBounds() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new InFlightWindow(0, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> new InFlightWindow(10, 0));
+    }
+
+    @Test
+    void acquireUntilMessageCountIsReached() throws Exception {
+
+        InFlightWindow window = new InFlightWindow(2, 1024);
+
+        assertThat(window.tryAcquire(10, Duration.ZERO)).isTrue();
+        assertThat(window.tryAcquire(10, Duration.ZERO)).isTrue();
+        assertThat(window.tryAcquire(10, Duration.ofMillis(10))).isFalse();
+
+        assertThat(window.getMessages()).isEqualTo(2);
+        assertThat(window.getBytes()).isEqualTo(20);
+    }
+
+    @Test
+    void acquireUntilByteSizeIsReached() throws Exception {
+
+        InFlightWindow window = new InFlightWindow(10, 100);
+
+        assertThat(window.tryAcquire(60, Duration.ZERO)).isTrue();
+        assertThat(window.tryAcquire(60, Duration.ZERO)).isFalse();
+        assertThat(window.tryAcquire(40, Duration.ZERO)).isTrue();
+    }
+
+    @Test
+    void letOversizedMessageThroughWhenWindowIsEmpty() throws Exception {
+
+        InFlightWindow window = new InFlightWindow(10, 100);
+
+        assertThat(window.tryAcquire(500, Duration.ZERO)).isTrue();
+        assertThat(window.tryAcquire(1, Duration.ZERO)).isFalse();
+    }
+
+    @Test
+    void resumeAcquiringOnRelease() throws Exception {
+
+        InFlightWindow window = new InFlightWindow(1, 100);
+        window.tryAcquire(10, Duration.ZERO);
+
+        CompletableFuture<Boolean> acquired = CompletableFuture.supplyAsync(() -> {
+            try {
+                return window.tryAcquire(10, Duration.ofSeconds(5));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        window.release(10);
+
+        assertThat(acquired.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(window.getMessages()).isEqualTo(1);
+    }
+
+    @Test
+    void exposeOccupancyMetrics() throws Exception {
+
+        InFlightWindow window = new InFlightWindow(4, 100);
+        window.tryAcquire(10, Duration.ZERO);
+        window.tryAcquire(40, Duration.ZERO);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new InFlightWindowMetrics(List.of(window)).bindTo(registry);
+
+        assertThat(registry.get("spring.outbox.connector.in-flight.messages").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("spring.outbox.connector.in-flight.bytes").gauge().value()).isEqualTo(50);
+        assertThat(registry.get("spring.outbox.connector.in-flight.usage").gauge().value()).isEqualTo(0.5);
+    }
+}
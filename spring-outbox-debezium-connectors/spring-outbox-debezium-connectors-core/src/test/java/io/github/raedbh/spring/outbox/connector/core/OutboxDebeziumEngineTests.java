@@ -17,28 +17,56 @@
 package io.github.raedbh.spring.outbox.connector.core;
 
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.debezium.DebeziumException;
 import io.debezium.config.Configuration;
 import io.debezium.data.Envelope.Operation;
+import io.debezium.engine.DebeziumEngine.RecordCommitter;
 import io.debezium.engine.RecordChangeEvent;
 import io.github.raedbh.spring.outbox.connector.OutboxData;
+import io.github.raedbh.spring.outbox.connector.OutboxEngineStartHook;
 import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
-
+import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer.FatalDeliveryException;
+import io.github.raedbh.spring.outbox.connector.TransactionalOutboxMessageProducer;
+import io.github.raedbh.spring.outbox.connector.TransactionalOutboxMessageProducer.FatalTransactionException;
+import io.github.raedbh.spring.outbox.connector.TransactionalOutboxMessageProducer.SourceOffset;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -50,52 +78,96 @@ import static org.mockito.Mockito.verify;
 class OutboxDebeziumEngineTests {
 
     @Mock private OutboxMessageProducer messageProducer;
-    @Mock private Configuration configuration;
+    private final Configuration configuration = Configuration.from(Map.of("name", "outbox-connector"));
+    @Mock private RecordCommitter<RecordChangeEvent<SourceRecord>> committer;
+    @Mock private TransactionalOutboxMessageProducer transactionalProducer;
+
+    private OutboxDebeziumEngine outboxDebeziumEngine;
 
-    @InjectMocks private OutboxDebeziumEngine outboxDebeziumEngine;
+    @BeforeEach
+    void setUp() {
+        OutboxConnectorProperties.DeliveryProperties delivery = new OutboxConnectorProperties.DeliveryProperties();
+        delivery.setRetryBackoff(Duration.ofMillis(1));
+
+        outboxDebeziumEngine = new OutboxDebeziumEngine(configuration, messageProducer, delivery);
+    }
 
     @ParameterizedTest
     @EnumSource(value = Operation.class, names = {"CREATE", "READ"})
-    void produceMessageForReadAndCreateOperations(Operation operation) {
+    void produceMessageForReadAndCreateOperations(Operation operation) throws Exception {
 
-        outboxDebeziumEngine.onRecordChanged(() -> sourceRecord(operation));
-        verify(messageProducer).produceMessage(any(OutboxData.class));
+        givenAcknowledgedMessages();
+
+        handle(sourceRecord(operation));
+        verify(messageProducer).produceMessageAcknowledged(any(OutboxData.class));
     }
 
     @Test
-    void noMessageProducedForDelete() {
-        outboxDebeziumEngine.onRecordChanged(() -> sourceRecord(Operation.DELETE));
-        verify(messageProducer, times(0)).produceMessage(any());
+    void produceMessageForLogicalDecodingMessage() throws Exception {
+
+        givenAcknowledgedMessages();
+
+        Schema messageSchema = SchemaBuilder.struct()
+          .name("io.debezium.connector.postgresql.Message")
+          .field("prefix", Schema.STRING_SCHEMA)
+          .field("content", Schema.BYTES_SCHEMA)
+          .build();
+
+        Schema valueSchema = SchemaBuilder.struct()
+          .name("io.debezium.connector.postgresql.MessageValue")
+          .field("op", Schema.STRING_SCHEMA)
+          .field("message", messageSchema)
+          .build();
+
+        String content = "{\"id\":\"3466c7dd-5880-4f91-886b-822cba015d4d\",\"type\":\"OrderPaid\","
+          + "\"payload\":\"AQI=\",\"metadata\":{\"operation\":\"payment\"}}";
+
+        Struct struct = new Struct(valueSchema)
+          .put("op", Operation.MESSAGE.code())
+          .put("message", new Struct(messageSchema)
+            .put("prefix", "outbox")
+            .put("content", content.getBytes()));
+
+        SourceRecord sourceRecord = new SourceRecord(null, null, "outbox.message", null, valueSchema, struct);
+
+        handle(sourceRecord);
+
+        verify(messageProducer).produceMessageAcknowledged(any(OutboxData.class));
+    }
+
+    @Test
+    void noMessageProducedForDelete() throws Exception {
+        handle(sourceRecord(Operation.DELETE));
+        verify(messageProducer, times(0)).produceMessageAcknowledged(any());
     }
 
     @Test
     void skipSilentlyForNullStruct() {
         assertThatCode(() -> {
             SourceRecord sourceRecord = new SourceRecord(null, null, "dummy", null, null, null);
-            outboxDebeziumEngine.onRecordChanged(() -> sourceRecord);
+            handle(sourceRecord);
         }).doesNotThrowAnyException();
     }
 
     @Test
-    void skipProcessingWhenOperationFieldIsMissing() {
+    void skipProcessingWhenOperationFieldIsMissing() throws Exception {
 
         Struct struct = new Struct(SchemaBuilder.struct().build());
         SourceRecord sourceRecord = new SourceRecord(null, null, "dummy", null, null, struct);
-        RecordChangeEvent<SourceRecord> event = () -> sourceRecord;
 
-        outboxDebeziumEngine.onRecordChanged(event);
+        handle(sourceRecord);
 
-        verify(messageProducer, times(0)).produceMessage(any());
+        verify(messageProducer, times(0)).produceMessageAcknowledged(any());
     }
 
     @Test
-    void skipProcessingForUnsupportedOperations() {
-        outboxDebeziumEngine.onRecordChanged(() -> sourceRecord(Operation.UPDATE));
-        verify(messageProducer, times(0)).produceMessage(any());
+    void skipProcessingForUnsupportedOperations() throws Exception {
+        handle(sourceRecord(Operation.UPDATE));
+        verify(messageProducer, times(0)).produceMessageAcknowledged(any());
     }
 
     @Test
-    void skipProcessingWhenAfterFieldIsNull() {
+    void skipProcessingWhenAfterFieldIsNull() throws Exception {
         Schema valueSchema = SchemaBuilder.struct()
           .name("outbox.common.outbox.Envelope")
           .field("op", Schema.STRING_SCHEMA)
@@ -115,12 +187,389 @@ class OutboxDebeziumEngineTests {
           struct
         );
 
-        outboxDebeziumEngine.onRecordChanged(() -> sourceRecord);
+        handle(sourceRecord);
+
+        verify(messageProducer, times(0)).produceMessageAcknowledged(any(OutboxData.class));
+    }
+
+    @Test
+    void commitBatchOnlyOnceAllMessagesAreAcknowledged() throws Exception {
+
+        givenAcknowledgedMessages();
+
+        RecordChangeEvent<SourceRecord> create = () -> sourceRecord(Operation.CREATE);
+        RecordChangeEvent<SourceRecord> delete = () -> sourceRecord(Operation.DELETE);
+
+        outboxDebeziumEngine.handleBatch(List.of(create, delete), committer);
+
+        InOrder inOrder = inOrder(messageProducer, committer);
+        inOrder.verify(messageProducer).produceMessageAcknowledged(any(OutboxData.class));
+        inOrder.verify(committer).markProcessed(create);
+        inOrder.verify(committer).markProcessed(delete);
+        inOrder.verify(committer).markBatchFinished();
+    }
+
+    @Test
+    void sendUnacknowledgedMessagesAgainBeforeCommitting() throws Exception {
+
+        given(messageProducer.produceMessageAcknowledged(any(OutboxData.class)))
+          .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")))
+          .willReturn(CompletableFuture.completedFuture(null));
+
+        handle(sourceRecord(Operation.CREATE));
+
+        InOrder inOrder = inOrder(messageProducer, committer);
+        inOrder.verify(messageProducer, times(2)).produceMessageAcknowledged(any(OutboxData.class));
+        inOrder.verify(committer).markBatchFinished();
+        assertThat(outboxDebeziumEngine.getInFlightWindows()).singleElement()
+          .satisfies(window -> assertThat(window.getMessages()).isZero());
+    }
+
+    @Test
+    void sendMessagesAgainFromFirstUnacknowledgedOne() throws Exception {
+
+        List<String> sent = new CopyOnWriteArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean();
+        given(messageProducer.produceMessageAcknowledged(any(OutboxData.class))).willAnswer(invocation -> {
+            String entityId = entityId(invocation.getArgument(0));
+            sent.add(entityId);
+            return entityId.equals("b") && failed.compareAndSet(false, true)
+              ? CompletableFuture.failedFuture(new IllegalStateException("nack"))
+              : CompletableFuture.completedFuture(null);
+        });
+
+        outboxDebeziumEngine.handleBatch(List.of(() -> sourceRecord(Operation.CREATE, "a"),
+          () -> sourceRecord(Operation.CREATE, "b"), () -> sourceRecord(Operation.CREATE, "c")), committer);
+
+        assertThat(sent).containsExactly("a", "b", "c", "b", "c");
+        verify(committer, times(3)).markProcessed(any());
+        verify(committer).markBatchFinished();
+    }
+
+    @Test
+    void stopOnFatalDeliveryFailure() throws Exception {
+
+        given(messageProducer.produceMessageAcknowledged(any(OutboxData.class))).willReturn(CompletableFuture
+          .failedFuture(new FatalDeliveryException("too large", new IllegalStateException("too large"))));
+
+        assertThatExceptionOfType(DebeziumException.class)
+          .isThrownBy(() -> handle(sourceRecord(Operation.CREATE)));
+        verify(messageProducer).produceMessageAcknowledged(any(OutboxData.class));
+        verify(committer, never()).markBatchFinished();
+        assertThat(outboxDebeziumEngine.getInFlightWindows()).singleElement()
+          .satisfies(window -> assertThat(window.getMessages()).isZero());
+    }
+
+    @Test
+    void stopAfterMaxDeliveryRetries() throws Exception {
+
+        given(messageProducer.produceMessageAcknowledged(any(OutboxData.class)))
+          .willReturn(CompletableFuture.failedFuture(new IllegalStateException("nack")));
+
+        OutboxConnectorProperties.DeliveryProperties delivery = new OutboxConnectorProperties.DeliveryProperties();
+        delivery.setRetryBackoff(Duration.ofMillis(1));
+        delivery.setMaxDeliveryRetries(2);
+        delivery.setLanes(2);
+        OutboxDebeziumEngine engine = new OutboxDebeziumEngine(configuration, messageProducer, delivery);
+
+        assertThatExceptionOfType(DebeziumException.class)
+          .isThrownBy(() -> engine.handleBatch(List.of(() -> sourceRecord(Operation.CREATE)), committer));
+        verify(messageProducer, times(3)).produceMessageAcknowledged(any(OutboxData.class));
+        verify(committer, never()).markBatchFinished();
+    }
+
+    @Test
+    void pauseSendingWhileInFlightWindowIsFull() throws Exception {
+
+        OutboxConnectorProperties.DeliveryProperties delivery = new OutboxConnectorProperties.DeliveryProperties();
+        delivery.setMaxInFlightMessages(1);
+        outboxDebeziumEngine = new OutboxDebeziumEngine(configuration, messageProducer, delivery);
+
+        CompletableFuture<Void> firstAcknowledgement = new CompletableFuture<>();
+        given(messageProducer.produceMessageAcknowledged(any(OutboxData.class)))
+          .willAnswer(invocation -> {
+              CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)
+                .execute(() -> firstAcknowledgement.complete(null));
+              return firstAcknowledgement;
+          })
+          .willAnswer(invocation -> {
+              assertThat(firstAcknowledgement).isDone();
+              return CompletableFuture.completedFuture(null);
+          });
+
+        outboxDebeziumEngine.handleBatch(
+          List.of(() -> sourceRecord(Operation.CREATE), () -> sourceRecord(Operation.CREATE)), committer);
+
+        verify(messageProducer, times(2)).produceMessageAcknowledged(any(OutboxData.class));
+        verify(committer).markBatchFinished();
+    }
+
+    @Test
+    void publishDifferentAggregatesInParallelLanes() throws Exception {
+
+        outboxDebeziumEngine = new OutboxDebeziumEngine(configuration, messageProducer, lanes(2));
+
+        CountDownLatch secondAggregateSent = new CountDownLatch(1);
+        AtomicBoolean sentInParallel = new AtomicBoolean();
+        given(messageProducer.produceMessageAcknowledged(any(OutboxData.class))).willAnswer(invocation -> {
+            if (entityId(invocation.getArgument(0)).equals("a")) {
+                // blocks the lane of the first aggregate until the second one went through its own lane
+                sentInParallel.set(secondAggregateSent.await(5, TimeUnit.SECONDS));
+            } else {
+                secondAggregateSent.countDown();
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+
+        RecordChangeEvent<SourceRecord> first = () -> sourceRecord(Operation.CREATE, "a");
+        RecordChangeEvent<SourceRecord> second = () -> sourceRecord(Operation.CREATE, "b");
+
+        outboxDebeziumEngine.handleBatch(List.of(first, second), committer);
+
+        assertThat(sentInParallel).isTrue();
+
+        InOrder inOrder = inOrder(committer);
+        inOrder.verify(committer).markProcessed(first);
+        inOrder.verify(committer).markProcessed(second);
+        inOrder.verify(committer).markBatchFinished();
+    }
+
+    @Test
+    void keepSendingOtherLanesWhileOneLaneFillsItsWindow() throws Exception {
+
+        OutboxConnectorProperties.DeliveryProperties delivery = lanes(2);
+        delivery.setMaxInFlightMessages(2);
+        outboxDebeziumEngine = new OutboxDebeziumEngine(configuration, messageProducer, delivery);
+
+        CountDownLatch secondAggregateSent = new CountDownLatch(1);
+        AtomicBoolean sentInParallel = new AtomicBoolean(true);
+        given(messageProducer.produceMessageAcknowledged(any(OutboxData.class))).willAnswer(invocation -> {
+            if (entityId(invocation.getArgument(0)).equals("b")) {
+                secondAggregateSent.countDown();
+                return CompletableFuture.completedFuture(null);
+            }
+            // the first aggregate is only acknowledged once the second one went through its own lane
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    if (!secondAggregateSent.await(1, TimeUnit.SECONDS)) {
+                        sentInParallel.set(false);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        });
+
+        outboxDebeziumEngine.handleBatch(List.of(() -> sourceRecord(Operation.CREATE, "a"),
+          () -> sourceRecord(Operation.CREATE, "a"), () -> sourceRecord(Operation.CREATE, "b")), committer);
+
+        assertThat(sentInParallel).isTrue();
+        assertThat(outboxDebeziumEngine.getInFlightWindows()).extracting(InFlightWindow::getMaxMessages)
+          .containsExactly(1, 1);
+        verify(committer).markBatchFinished();
+    }
+
+    @Test
+    void publishMessagesOfTheSameAggregateInOrderOnOneLane() throws Exception {
+
+        outboxDebeziumEngine = new OutboxDebeziumEngine(configuration, messageProducer, lanes(4));
+
+        List<String> sent = new CopyOnWriteArrayList<>();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        given(messageProducer.produceMessageAcknowledged(any(OutboxData.class))).willAnswer(invocation -> {
+            sent.add(new String(((OutboxData) invocation.getArgument(0)).getPayload()));
+            threads.add(Thread.currentThread().getName());
+            return CompletableFuture.completedFuture(null);
+        });
+
+        outboxDebeziumEngine.handleBatch(List.of(
+          () -> sourceRecord(Operation.CREATE, "a", "1"),
+          () -> sourceRecord(Operation.CREATE, "a", "2"),
+          () -> sourceRecord(Operation.CREATE, "a", "3")), committer);
+
+        assertThat(sent).containsExactly("1", "2", "3");
+        assertThat(threads).hasSize(1);
+    }
+
+    @Test
+    void disableTombstonesUnlessConfigured() {
+
+        assertThat(OutboxDebeziumEngine.engineProperties(configuration))
+          .containsEntry("tombstones.on.delete", "false")
+          .containsEntry("name", "outbox-connector");
+        assertThat(OutboxDebeziumEngine.engineProperties(Configuration.from(Map.of("tombstones.on.delete", "true"))))
+          .containsEntry("tombstones.on.delete", "true");
+    }
+
+    @Test
+    void refuseNonPositiveLaneCount() {
+        assertThatIllegalArgumentException()
+          .isThrownBy(() -> new OutboxDebeziumEngine(configuration, messageProducer, lanes(0)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendBatchAndSourceOffsetsInOneTransaction() throws Exception {
+
+        OutboxDebeziumEngine engine = new OutboxDebeziumEngine(configuration, transactionalProducer);
+
+        RecordChangeEvent<SourceRecord> created = () -> sourceRecord(Operation.CREATE);
+        RecordChangeEvent<SourceRecord> deleted = () -> sourceRecord(Operation.DELETE);
+        engine.handleBatch(List.of(created, deleted), committer);
+
+        ArgumentCaptor<List<OutboxData>> batch = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<SourceOffset>> sourceOffsets = ArgumentCaptor.forClass(List.class);
+        verify(transactionalProducer).produceMessagesInTransaction(batch.capture(), sourceOffsets.capture());
+        verify(transactionalProducer, times(0)).produceMessageAcknowledged(any());
+
+        assertThat(batch.getValue()).extracting(OutboxData::getType).containsExactly("OrderPaid");
+        assertThat(sourceOffsets.getValue()).singleElement().satisfies(sourceOffset -> {
+            assertThat(new String(sourceOffset.key(), UTF_8))
+              .isEqualTo("[\"outbox-connector\",{\"server\":\"outbox\"}]");
+            assertThat(new String(sourceOffset.value(), UTF_8)).contains("\"lsn\":27388008");
+        });
+
+        InOrder inOrder = inOrder(committer);
+        inOrder.verify(committer).markProcessed(created);
+        inOrder.verify(committer).markProcessed(deleted);
+        inOrder.verify(committer).markBatchFinished();
+    }
+
+    @Test
+    void retryAbortedTransaction() throws Exception {
+
+        willThrow(new IllegalStateException("fenced")).willDoNothing()
+          .given(transactionalProducer).produceMessagesInTransaction(any(), any());
+
+        OutboxConnectorProperties.DeliveryProperties delivery = new OutboxConnectorProperties.DeliveryProperties();
+        delivery.setRetryBackoff(Duration.ofMillis(1));
+        new OutboxDebeziumEngine(configuration, transactionalProducer, delivery)
+          .handleBatch(List.of(() -> sourceRecord(Operation.CREATE)), committer);
+
+        verify(transactionalProducer, times(2)).produceMessagesInTransaction(any(), any());
+        verify(committer).markBatchFinished();
+    }
+
+    @Test
+    void stopOnFatalTransactionFailure() throws Exception {
+
+        willThrow(new FatalTransactionException("fenced", new IllegalStateException("fenced")))
+          .given(transactionalProducer).produceMessagesInTransaction(any(), any());
+
+        OutboxDebeziumEngine engine = new OutboxDebeziumEngine(configuration, transactionalProducer);
+
+        assertThatExceptionOfType(DebeziumException.class)
+          .isThrownBy(() -> engine.handleBatch(List.of(() -> sourceRecord(Operation.CREATE)), committer));
+        verify(transactionalProducer).produceMessagesInTransaction(any(), any());
+        verify(committer, never()).markBatchFinished();
+    }
+
+    @Test
+    void stopAfterMaxTransactionRetries() throws Exception {
+
+        willThrow(new IllegalStateException("broker unavailable"))
+          .given(transactionalProducer).produceMessagesInTransaction(any(), any());
+
+        OutboxConnectorProperties.DeliveryProperties delivery = new OutboxConnectorProperties.DeliveryProperties();
+        delivery.setRetryBackoff(Duration.ofMillis(1));
+        delivery.setMaxTransactionRetries(2);
+        OutboxDebeziumEngine engine = new OutboxDebeziumEngine(configuration, transactionalProducer, delivery);
+
+        assertThatExceptionOfType(DebeziumException.class)
+          .isThrownBy(() -> engine.handleBatch(List.of(() -> sourceRecord(Operation.CREATE)), committer));
+        verify(transactionalProducer, times(3)).produceMessagesInTransaction(any(), any());
+        verify(committer, never()).markBatchFinished();
+    }
+
+    @Test
+    void refuseLanesWithTransactionalProducer() {
+        assertThatIllegalArgumentException()
+          .isThrownBy(() -> new OutboxDebeziumEngine(configuration, transactionalProducer, lanes(2)));
+    }
+
+    @Test
+    void skipMessagesAlreadyPublished(@TempDir Path directory) throws Exception {
+
+        givenAcknowledgedMessages();
+        OutboxConnectorProperties.DeduplicationProperties deduplication =
+          new OutboxConnectorProperties.DeduplicationProperties();
+        deduplication.setEnabled(true);
+        deduplication.setDirectory(directory.toString());
+
+        OutboxDebeziumEngine engine = new OutboxDebeziumEngine(configuration, messageProducer,
+          new OutboxConnectorProperties.DeliveryProperties(), deduplication);
+        engine.handleBatch(List.of(() -> sourceRecord(Operation.READ)), committer);
+        engine.handleBatch(List.of(() -> sourceRecord(Operation.CREATE)), committer);
+
+        // published index read back after a restart
+        OutboxDebeziumEngine restarted = new OutboxDebeziumEngine(configuration, messageProducer,
+          new OutboxConnectorProperties.DeliveryProperties(), deduplication);
+        restarted.handleBatch(List.of(() -> sourceRecord(Operation.READ)), committer);
+
+        verify(messageProducer).produceMessageAcknowledged(any(OutboxData.class));
+        verify(committer, times(3)).markBatchFinished();
+    }
+
+    @Test
+    void requirePublishedIndexDirectory() {
+
+        OutboxConnectorProperties.DeduplicationProperties deduplication =
+          new OutboxConnectorProperties.DeduplicationProperties();
+        deduplication.setEnabled(true);
 
-        verify(messageProducer, times(0)).produceMessage(any(OutboxData.class));
+        assertThatIllegalArgumentException().isThrownBy(() -> new OutboxDebeziumEngine(configuration, messageProducer,
+          new OutboxConnectorProperties.DeliveryProperties(), deduplication));
+    }
+
+    @Test
+    void runStartHooksInOrderBeforeTheEngine() throws Exception {
+
+        List<String> invoked = new CopyOnWriteArrayList<>();
+        CountDownLatch failed = new CountDownLatch(1);
+        OutboxEngineStartHook createPublication = () -> invoked.add("create publication");
+        OutboxEngineStartHook failing = () -> {
+            invoked.add("failing");
+            failed.countDown();
+            throw new IllegalStateException("database unavailable");
+        };
+
+        OutboxDebeziumEngine engine = new OutboxDebeziumEngine(configuration, messageProducer,
+          new OutboxConnectorProperties.DeliveryProperties(), new OutboxConnectorProperties.DeduplicationProperties(),
+          List.of(createPublication, failing));
+        engine.start();
+
+        assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(invoked).containsExactly("create publication", "failing");
+    }
+
+    private static OutboxConnectorProperties.DeliveryProperties lanes(int lanes) {
+        OutboxConnectorProperties.DeliveryProperties delivery = new OutboxConnectorProperties.DeliveryProperties();
+        delivery.setLanes(lanes);
+        return delivery;
+    }
+
+    private static String entityId(OutboxData outboxData) {
+        return (String) outboxData.getMetadata().get("event_entity_id");
+    }
+
+    private void handle(SourceRecord sourceRecord) throws InterruptedException {
+        outboxDebeziumEngine.handleBatch(List.of(() -> sourceRecord), committer);
+    }
+
+    private void givenAcknowledgedMessages() {
+        given(messageProducer.produceMessageAcknowledged(any(OutboxData.class)))
+          .willReturn(CompletableFuture.completedFuture(null));
     }
 
     private SourceRecord sourceRecord(Operation operation) {
+        return sourceRecord(operation, "5a4f5a11-e367-46cc-945e-ef93f5c9b903");
+    }
+
+    private SourceRecord sourceRecord(Operation operation, String entityId) {
+        return sourceRecord(operation, entityId, null);
+    }
+
+    private SourceRecord sourceRecord(Operation operation, String entityId, String payload) {
 
         Schema keySchema = SchemaBuilder.struct()
           .name("outbox.common.outbox.Key")
@@ -179,10 +628,12 @@ class OutboxDebeziumEngineTests {
         Struct afterStruct = new Struct(afterSchema)
           .put("id", "3466c7dd-5880-4f91-886b-822cba015d4d")
           .put("type", "OrderPaid")
-          .put("payload", ByteBuffer.allocate(497))  // Simulated ByteBuffer payload
+          .put("payload", payload == null
+            ? ByteBuffer.allocate(497)  // Simulated ByteBuffer payload
+            : ByteBuffer.wrap(payload.getBytes()))
           .put("metadata",
             "{\"operation\": \"payment\","
-              + " \"event_entity_id\": \"5a4f5a11-e367-46cc-945e-ef93f5c9b903\","
+              + " \"event_entity_id\": \"" + entityId + "\","
               + " \"event_entity_type\": \"Order\","
               + " \"event_occurred_at\": \"1742088376692\"}");
 
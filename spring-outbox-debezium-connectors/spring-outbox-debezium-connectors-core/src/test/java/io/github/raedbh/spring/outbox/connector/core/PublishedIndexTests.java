@@ -0,0 +1,177 @@
+/*
+ *  Copyright 2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.core;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Unit tests for {@link PublishedIndex}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class PublishedIndexTests {
+
+    @TempDir Path directory;
+
+    MutableClock clock = new MutableClock();
+
+    @Test
+    void refuseTooSmallBounds() {
+        assertThatIllegalArgumentException()
+          .isThrownBy(() -> new PublishedIndex(directory, Duration.ofMillis(1), 100, clock));
+        assertThatIllegalArgumentException()
+          .isThrownBy(() -> new PublishedIndex(directory, Duration.ofHours(1), 1, clock));
+    }
+
+    @Test
+    void containAddedIds() throws Exception {
+
+        try (PublishedIndex index = new PublishedIndex(directory, Duration.ofHours(1), 100, clock)) {
+
+            String uuid = UUID.randomUUID().toString();
+            index.add(uuid);
+            index.add("order-42");
+            index.add("order-42");
+
+            assertThat(index.contains(uuid)).isTrue();
+            assertThat(index.contains("order-42")).isTrue();
+            assertThat(index.contains(UUID.randomUUID().toString())).isFalse();
+            assertThat(index.contains("order-43")).isFalse();
+            assertThat(index.size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void reloadFlushedIds() throws Exception {
+
+        try (PublishedIndex index = new PublishedIndex(directory, Duration.ofHours(1), 100, clock)) {
+            index.add("a");
+            index.flush();
+            index.add("b");
+        }
+
+        try (PublishedIndex index = new PublishedIndex(directory, Duration.ofHours(1), 100, clock)) {
+            assertThat(index.contains("a")).isTrue();
+            assertThat(index.contains("b")).isTrue();
+
+            index.add("c");
+        }
+
+        try (PublishedIndex index = new PublishedIndex(directory, Duration.ofHours(1), 100, clock)) {
+            assertThat(index.size()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void ignorePartiallyWrittenKey() throws Exception {
+
+        try (PublishedIndex index = new PublishedIndex(directory, Duration.ofHours(1), 100, clock)) {
+            index.add("a");
+        }
+        try (var files = Files.list(directory)) {
+            Files.write(files.findFirst().orElseThrow(), new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+        }
+
+        try (PublishedIndex index = new PublishedIndex(directory, Duration.ofHours(1), 100, clock)) {
+            index.add("b");
+        }
+
+        try (PublishedIndex index = new PublishedIndex(directory, Duration.ofHours(1), 100, clock)) {
+            assertThat(index.contains("a")).isTrue();
+            assertThat(index.contains("b")).isTrue();
+            assertThat(index.size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void forgetIdsOutsideTimeWindow() throws Exception {
+
+        try (PublishedIndex index = new PublishedIndex(directory, Duration.ofMinutes(4), 100, clock)) {
+
+            index.add("old");
+            clock.advance(Duration.ofMinutes(2));
+            index.add("recent");
+
+            clock.advance(Duration.ofMinutes(2));
+            assertThat(index.contains("old")).isFalse();
+            assertThat(index.contains("recent")).isTrue();
+        }
+
+        try (var files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void forgetOldestIdsBeyondMaxEntries() throws Exception {
+
+        try (PublishedIndex index = new PublishedIndex(directory, Duration.ofHours(1), 8, clock)) {
+
+            for (int i = 0; i < 10; i++) {
+                index.add("id-" + i);
+            }
+
+            assertThat(index.size()).isEqualTo(8);
+            assertThat(index.contains("id-0")).isFalse();
+            assertThat(index.contains("id-1")).isFalse();
+            assertThat(index.contains("id-9")).isTrue();
+        }
+
+        try (var files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(PublishedIndex.GENERATIONS);
+        }
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2025-03-16T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
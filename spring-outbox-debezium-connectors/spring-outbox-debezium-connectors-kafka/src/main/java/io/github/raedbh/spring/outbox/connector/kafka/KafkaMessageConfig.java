@@ -18,8 +18,10 @@ package io.github.raedbh.spring.outbox.connector.kafka;
 
 import org.springframework.lang.Nullable;
 
+import io.github.raedbh.spring.outbox.connector.OutboxMessageConfigValue;
+
 /**
  * @author Raed Ben Hamouda
  * @since 1.0
  */
-record KafkaMessageConfig(@Nullable String topic, @Nullable Integer partition, @Nullable String key) {}
+record KafkaMessageConfig(OutboxMessageConfigValue topic, @Nullable Integer partition, OutboxMessageConfigValue key) {}
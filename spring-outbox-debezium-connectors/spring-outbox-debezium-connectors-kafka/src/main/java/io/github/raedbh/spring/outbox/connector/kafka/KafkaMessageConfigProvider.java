@@ -20,6 +20,7 @@ import org.springframework.core.env.Environment;
 
 import io.github.raedbh.spring.outbox.connector.AbstractMessageConfigProvider;
 import io.github.raedbh.spring.outbox.connector.OutboxMessageConfigKeyResolver;
+import io.github.raedbh.spring.outbox.connector.OutboxMessageConfigValue;
 
 /**
  * Provides configuration for Kafka integration based on outbox type.
@@ -42,7 +43,10 @@ class KafkaMessageConfigProvider extends AbstractMessageConfigProvider<KafkaMess
         String topic = environment.getProperty(keyResolver.resolve("topic"));
         Integer partition = environment.getProperty(keyResolver.resolve("partition"), Integer.class);
         String key = environment.getProperty(keyResolver.resolve("key"));
+        String topicExpression = environment.getProperty(keyResolver.resolve("topic-expression"));
+        String keyExpression = environment.getProperty(keyResolver.resolve("key-expression"));
 
-        return new KafkaMessageConfig(topic, partition, key);
+        return new KafkaMessageConfig(OutboxMessageConfigValue.of(topic, topicExpression), partition,
+          OutboxMessageConfigValue.of(key, keyExpression));
     }
 }
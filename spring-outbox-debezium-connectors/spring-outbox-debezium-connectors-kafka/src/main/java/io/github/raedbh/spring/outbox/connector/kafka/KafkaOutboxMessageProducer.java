@@ -18,15 +18,25 @@ package io.github.raedbh.spring.outbox.connector.kafka;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.AuthenticationException;
+import org.apache.kafka.common.errors.AuthorizationException;
+import org.apache.kafka.common.errors.OutOfOrderSequenceException;
+import org.apache.kafka.common.errors.ProducerFencedException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.errors.UnsupportedVersionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.env.Environment;
 import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.lang.Nullable;
 
 import io.github.raedbh.spring.outbox.connector.OutboxData;
 import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
+import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer.FatalDeliveryException;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -52,22 +62,100 @@ public class KafkaOutboxMessageProducer implements OutboxMessageProducer {
 
     @Override
     public void produceMessage(OutboxData outboxData) {
+        produceMessageAcknowledged(outboxData);
+    }
+
+    /**
+     * Sends the outbox message, completing the returned future once the record is acknowledged by Kafka according to
+     * the producer {@code acks} setting. Messages skipped for lack of a topic complete right away, and failures that
+     * sending again cannot fix complete it with a {@link FatalDeliveryException}.
+     */
+    @Override
+    public CompletableFuture<Void> produceMessageAcknowledged(OutboxData outboxData) {
+
+        ProducerRecord<String, byte[]> producerRecord = toProducerRecord(outboxData);
+        if (producerRecord == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String topic = producerRecord.topic();
+        String recordKey = producerRecord.key();
+
+        CompletableFuture<Void> acknowledgement = new CompletableFuture<>();
+        try {
+            kafkaOperations.send(producerRecord).whenComplete((sendResult, exception) -> {
+                if (exception == null) {
+                    LOGGER.info("Message successfully sent to topic '{}' with key '{}'. Offset: {}, Partition: {}",
+                      topic,
+                      recordKey,
+                      sendResult.getRecordMetadata().offset(),
+                      sendResult.getRecordMetadata().partition());
+                    acknowledgement.complete(null);
+                } else {
+                    LOGGER.error("Failed to send message to topic '{}' with key '{}'. Cause: {}",
+                      topic,
+                      recordKey,
+                      exception.getMessage(),
+                      exception);
+                    acknowledgement.completeExceptionally(classify(exception));
+                }
+            });
+        } catch (RuntimeException e) {
+            acknowledgement.completeExceptionally(classify(e));
+        }
+        return acknowledgement;
+    }
+
+    private static Throwable classify(Throwable failure) {
+        return isFatal(failure)
+          ? new FatalDeliveryException("Kafka send failed and cannot be retried", failure)
+          : failure;
+    }
+
+    /**
+     * Whether the failure, or one of its causes, is one that a new attempt would hit again: the producer was fenced by
+     * another instance using the same transactional id, is not allowed to write, or a record is invalid.
+     */
+    static boolean isFatal(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ProducerFencedException
+              || cause instanceof OutOfOrderSequenceException
+              || cause instanceof AuthenticationException
+              || cause instanceof AuthorizationException
+              || cause instanceof UnsupportedVersionException
+              || cause instanceof SerializationException
+              || cause instanceof RecordTooLargeException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Maps the outbox data to a record of its configured topic, with the outbox id and metadata as headers.
+     *
+     * @return the record, or {@code null} if no topic is configured for the type of the outbox data.
+     */
+    @Nullable
+    ProducerRecord<String, byte[]> toProducerRecord(OutboxData outboxData) {
+
         KafkaMessageConfig config = configProvider.getConfig(outboxData.getType());
+        String topic = config.topic().resolve(outboxData);
 
-        if (config.topic() == null) {
+        if (topic == null) {
             LOGGER.warn("No topic configured for {}", outboxData.getType());
             LOGGER.info("To specify a topic, make sure the config follows: "
               + "spring.outbox.connector.kafka.messages.<kebab-case-type>.topic "
               + "e.g. spring.outbox.connector.kafka.messages.order-placed.topic for type=OrderPlaced");
 
             LOGGER.warn("Message delivery skipped for type: {}", outboxData.getType());
-            return;
+            return null;
         }
 
         ProducerRecord<String, byte[]> producerRecord = new ProducerRecord<>(
-          config.topic(),
+          topic,
           config.partition(),
-          config.key(),
+          resolveKey(config, outboxData),
           outboxData.getPayload());
 
         Map<String, Object> metadata = new HashMap<>(outboxData.getMetadata());
@@ -80,21 +168,30 @@ public class KafkaOutboxMessageProducer implements OutboxMessageProducer {
               }
           });
 
-        kafkaOperations.send(producerRecord)
-          .whenComplete((sendResult, exception) -> {
-              if (exception == null) {
-                  LOGGER.info("Message successfully sent to topic '{}' with key '{}'. Offset: {}, Partition: {}",
-                    config.topic(),
-                    config.key(),
-                    sendResult.getRecordMetadata().offset(),
-                    sendResult.getRecordMetadata().partition());
-              } else {
-                  LOGGER.error("Failed to send message to topic '{}' with key '{}'. Cause: {}",
-                    config.topic(),
-                    config.key(),
-                    exception.getMessage(),
-                    exception);
-              }
-          });
+        return producerRecord;
+    }
+
+    /**
+     * Drops the loaded message configurations, so that topics and keys are read again from the environment.
+     */
+    public void reloadMessageConfigs() {
+        configProvider.reload();
+    }
+
+    /**
+     * Resolves the record key from the key expression or the static key of the type if any, and otherwise from the
+     * {@value OutboxData#EVENT_ENTITY_ID} metadata, so that the records of one aggregate land on the same partition
+     * while different aggregates spread across partitions.
+     */
+    @Nullable
+    private static String resolveKey(KafkaMessageConfig config, OutboxData outboxData) {
+
+        if (config.key().isDefined()) {
+            return config.key().resolve(outboxData);
+        }
+
+        Map<String, Object> metadata = outboxData.getMetadata();
+        Object entityId = metadata != null ? metadata.get(OutboxData.EVENT_ENTITY_ID) : null;
+        return entityId != null ? entityId.toString() : null;
     }
 }
@@ -16,15 +16,23 @@
 
 package io.github.raedbh.spring.outbox.connector.kafka;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.CommonClientConfigs;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.env.Environment;
 import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.core.KafkaTemplate;
 
+import io.github.raedbh.spring.outbox.connector.OutboxEngineSettingsCustomizer;
 import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
 
 /**
@@ -34,10 +42,51 @@ import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
 @AutoConfiguration
 @AutoConfigureAfter(KafkaAutoConfiguration.class)
 @ConditionalOnClass(KafkaTemplate.class)
+@EnableConfigurationProperties(OutboxKafkaProperties.class)
 public class OutboxKafkaAutoConfiguration {
 
     @Bean
-    OutboxMessageProducer outboxMessageProducer(KafkaOperations<String, byte[]> kafkaOperations, Environment env) {
-        return new KafkaOutboxMessageProducer(kafkaOperations, env);
+    OutboxMessageProducer outboxMessageProducer(KafkaOperations<String, byte[]> kafkaOperations, Environment env,
+      OutboxKafkaProperties outboxKafkaProperties) {
+
+        if (!outboxKafkaProperties.isTransactional()) {
+            return new KafkaOutboxMessageProducer(kafkaOperations, env);
+        }
+
+        // the offsets must be read back from the topic they are committed to along with the messages
+        String offsetStore = env.getProperty("spring.outbox.connector.offset-storage.class-name");
+        if (!TransactionalKafkaOffsetBackingStore.class.getName().equals(offsetStore)) {
+            throw new IllegalStateException("Transactional Kafka connector requires "
+              + "spring.outbox.connector.offset-storage.class-name="
+              + TransactionalKafkaOffsetBackingStore.class.getName());
+        }
+
+        return new TransactionalKafkaOutboxMessageProducer(kafkaOperations, env,
+          env.getProperty("spring.outbox.connector.offset-storage.topic",
+            TransactionalKafkaOutboxMessageProducer.DEFAULT_OFFSETS_TOPIC));
+    }
+
+    /**
+     * Makes the offset store read the offsets from the cluster the producer writes them to, rather than from the
+     * {@code bootstrap.servers} of the engine, which defaults to {@code localhost:9092}.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.outbox.connector.kafka", name = "transactional", havingValue = "true")
+    OutboxEngineSettingsCustomizer transactionalOffsetStoreSettings(KafkaOperations<String, byte[]> kafkaOperations) {
+
+        Map<String, Object> producerConfig = kafkaOperations.getProducerFactory().getConfigurationProperties();
+        return settings -> producerConfig.forEach((name, value) -> {
+            if (isConnectionSetting(name) && value != null) {
+                settings.putIfAbsent(TransactionalKafkaOffsetBackingStore.CONSUMER_PREFIX + name,
+                  value instanceof Collection<?> values
+                    ? values.stream().map(String::valueOf).collect(Collectors.joining(","))
+                    : value.toString());
+            }
+        });
+    }
+
+    private static boolean isConnectionSetting(String name) {
+        return name.equals(CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG)
+          || name.startsWith("security.") || name.startsWith("sasl.") || name.startsWith("ssl.");
     }
 }
@@ -0,0 +1,44 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.kafka;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the Kafka outbox connector.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@ConfigurationProperties("spring.outbox.connector.kafka")
+public class OutboxKafkaProperties {
+
+    private boolean transactional;
+
+    /**
+     * Whether to send each batch of outbox messages in a Kafka transaction, together with the source offsets reached
+     * by the batch, so that each outbox entry is published exactly once. Requires a transactional producer and
+     * {@link TransactionalKafkaOffsetBackingStore} as offset store.
+     */
+    public boolean isTransactional() {
+        return transactional;
+    }
+
+    public void setTransactional(boolean transactional) {
+        this.transactional = transactional;
+    }
+}
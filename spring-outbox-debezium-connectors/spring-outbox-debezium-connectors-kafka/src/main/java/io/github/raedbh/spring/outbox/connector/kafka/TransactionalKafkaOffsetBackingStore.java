@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.kafka;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.IsolationLevel;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.connect.runtime.WorkerConfig;
+import org.apache.kafka.connect.storage.MemoryOffsetBackingStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An offset backing store reading, on startup, the source offsets committed by
+ * {@link TransactionalKafkaOutboxMessageProducer} in the same transactions as the outbox messages.
+ *
+ * <p>The offsets topic is read from {@code offset.storage.topic}, with the brokers of {@code bootstrap.servers} and
+ * any consumer setting prefixed by {@code offset.storage.consumer.}, only ever seeing committed transactions. The
+ * offsets flushed by the engine afterwards are only kept in memory, since they were already written by the
+ * producer.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+public class TransactionalKafkaOffsetBackingStore extends MemoryOffsetBackingStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransactionalKafkaOffsetBackingStore.class);
+
+    static final String TOPIC_CONFIG = "offset.storage.topic";
+    static final String CONSUMER_PREFIX = "offset.storage.consumer.";
+
+    private String topic;
+    private Map<String, Object> consumerConfig;
+
+    @Override
+    public void configure(WorkerConfig config) {
+
+        super.configure(config);
+
+        Object configuredTopic = config.originals().get(TOPIC_CONFIG);
+        this.topic = configuredTopic != null
+          ? configuredTopic.toString()
+          : TransactionalKafkaOutboxMessageProducer.DEFAULT_OFFSETS_TOPIC;
+
+        this.consumerConfig = new HashMap<>(config.originalsWithPrefix(CONSUMER_PREFIX));
+        consumerConfig.putIfAbsent(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG,
+          config.getList(WorkerConfig.BOOTSTRAP_SERVERS_CONFIG));
+        consumerConfig.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, IsolationLevel.READ_COMMITTED.toString());
+        consumerConfig.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    }
+
+    @Override
+    public synchronized void start() {
+        super.start();
+        try (Consumer<byte[], byte[]> consumer = createConsumer(consumerConfig)) {
+            readOffsets(consumer);
+        }
+    }
+
+    @Override
+    public Set<Map<String, Object>> connectorPartitions(String connectorName) {
+        // only needed by the offsets REST API of Kafka Connect workers
+        return Set.of();
+    }
+
+    Consumer<byte[], byte[]> createConsumer(Map<String, Object> consumerConfig) {
+        return new KafkaConsumer<>(consumerConfig, new ByteArrayDeserializer(), new ByteArrayDeserializer());
+    }
+
+    /**
+     * Reads the offsets topic from the beginning up to the last stable offset of each partition, the latest record of
+     * each source partition winning.
+     */
+    void readOffsets(Consumer<byte[], byte[]> consumer) {
+
+        List<PartitionInfo> partitionInfos = consumer.partitionsFor(topic);
+        if (partitionInfos == null || partitionInfos.isEmpty()) {
+            LOGGER.info("Offsets topic '{}' not found, starting without offsets", topic);
+            return;
+        }
+
+        List<TopicPartition> partitions = partitionInfos.stream()
+          .map(partitionInfo -> new TopicPartition(partitionInfo.topic(), partitionInfo.partition()))
+          .toList();
+        consumer.assign(partitions);
+        consumer.seekToBeginning(partitions);
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+        while (partitions.stream().anyMatch(partition -> consumer.position(partition) < endOffsets.get(partition))) {
+            for (ConsumerRecord<byte[], byte[]> offsetRecord : consumer.poll(Duration.ofMillis(100))) {
+                if (offsetRecord.key() == null) {
+                    continue;
+                }
+                ByteBuffer key = ByteBuffer.wrap(offsetRecord.key());
+                if (offsetRecord.value() == null) {
+                    data.remove(key);
+                } else {
+                    data.put(key, ByteBuffer.wrap(offsetRecord.value()));
+                }
+            }
+        }
+
+        LOGGER.info("Read {} source offsets from topic '{}'", data.size(), topic);
+    }
+}
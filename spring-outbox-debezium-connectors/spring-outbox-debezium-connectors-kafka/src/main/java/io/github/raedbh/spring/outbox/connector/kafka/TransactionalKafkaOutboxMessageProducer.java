@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.kafka;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.core.KafkaOperations;
+
+import io.github.raedbh.spring.outbox.connector.OutboxData;
+import io.github.raedbh.spring.outbox.connector.TransactionalOutboxMessageProducer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A {@link KafkaOutboxMessageProducer} sending each batch of outbox messages in a Kafka transaction, together with the
+ * source offsets reached by the batch, written to an offsets topic read back by
+ * {@link TransactionalKafkaOffsetBackingStore} on startup.
+ *
+ * <p>Since the messages and the offsets are committed atomically, a restart resumes right after the last committed
+ * batch, and consumers reading with {@code isolation.level=read_committed} see each outbox message exactly once.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+public class TransactionalKafkaOutboxMessageProducer extends KafkaOutboxMessageProducer
+  implements TransactionalOutboxMessageProducer {
+
+    /**
+     * The offsets topic used when {@code spring.outbox.connector.offset-storage.topic} is not set.
+     */
+    public static final String DEFAULT_OFFSETS_TOPIC = "outbox-connector-offsets";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransactionalKafkaOutboxMessageProducer.class);
+
+    private final KafkaOperations<String, byte[]> kafkaOperations;
+    private final String offsetsTopic;
+
+
+    public TransactionalKafkaOutboxMessageProducer(KafkaOperations<String, byte[]> kafkaOperations,
+      Environment environment, String offsetsTopic) {
+
+        super(kafkaOperations, environment);
+
+        if (!kafkaOperations.isTransactional()) {
+            throw new IllegalStateException("The Kafka producer is not transactional, "
+              + "make sure spring.kafka.producer.transaction-id-prefix is set");
+        }
+
+        this.kafkaOperations = kafkaOperations;
+        this.offsetsTopic = offsetsTopic;
+    }
+
+
+    /**
+     * Sends the outbox message in a transaction of its own, without source offset.
+     */
+    @Override
+    public CompletableFuture<Void> produceMessageAcknowledged(OutboxData outboxData) {
+        try {
+            produceMessagesInTransaction(List.of(outboxData), List.of());
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void produceMessagesInTransaction(List<OutboxData> outboxData, List<SourceOffset> sourceOffsets) {
+        try {
+            executeInTransaction(outboxData, sourceOffsets);
+        } catch (RuntimeException e) {
+            if (isFatal(e)) {
+                throw new FatalTransactionException("Kafka transaction failed and cannot be retried", e);
+            }
+            throw e;
+        }
+
+        LOGGER.info("Transaction committed with {} messages and {} source offsets",
+          outboxData.size(), sourceOffsets.size());
+    }
+
+    private void executeInTransaction(List<OutboxData> outboxData, List<SourceOffset> sourceOffsets) {
+        kafkaOperations.executeInTransaction(operations -> {
+            for (OutboxData data : outboxData) {
+                ProducerRecord<String, byte[]> producerRecord = toProducerRecord(data);
+                if (producerRecord != null) {
+                    operations.send(producerRecord);
+                }
+            }
+            for (SourceOffset sourceOffset : sourceOffsets) {
+                operations.send(offsetsTopic, new String(sourceOffset.key(), UTF_8), sourceOffset.value());
+            }
+            // committing the transaction flushes the records, and fails if any of them could not be sent
+            return null;
+        });
+    }
+}
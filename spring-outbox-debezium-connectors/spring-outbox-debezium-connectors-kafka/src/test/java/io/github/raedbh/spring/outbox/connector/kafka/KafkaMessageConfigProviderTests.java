@@ -25,6 +25,7 @@ import org.springframework.core.env.Environment;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 
 /**
@@ -62,9 +63,24 @@ class KafkaMessageConfigProviderTests {
         KafkaMessageConfig kafkaMessageConfig = configProvider.loadConfig("OrderCreated");
 
         assertThat(kafkaMessageConfig).isNotNull();
-        assertThat(kafkaMessageConfig.topic()).isEqualTo(topic);
+        assertThat(kafkaMessageConfig.topic().getValue()).isEqualTo(topic);
         assertThat(kafkaMessageConfig.partition()).isEqualTo(partition);
-        assertThat(kafkaMessageConfig.key()).isEqualTo(key);
+        assertThat(kafkaMessageConfig.key().getValue()).isEqualTo(key);
+    }
+
+    @Test
+    void parseKeyExpression() {
+
+        given(environment.getProperty(anyString())).willAnswer(invocation ->
+          "spring.outbox.connector.kafka.messages.order-created.key-expression".equals(invocation.getArgument(0))
+            ? "metadata['event_entity_id']"
+            : null);
+
+        KafkaMessageConfig kafkaMessageConfig = configProvider.loadConfig("OrderCreated");
+
+        assertThat(kafkaMessageConfig.key().getExpression()).isNotNull();
+        assertThat(kafkaMessageConfig.key().getExpression().getExpressionString())
+          .isEqualTo("metadata['event_entity_id']");
     }
 
     @Test
@@ -75,8 +91,8 @@ class KafkaMessageConfigProviderTests {
         KafkaMessageConfig messageConfig = configProvider.loadConfig("OrderCancelled");
 
         assertThat(messageConfig).isNotNull();
-        assertThat(messageConfig.topic()).isNull();
+        assertThat(messageConfig.topic().isDefined()).isFalse();
         assertThat(messageConfig.partition()).isNull();
-        assertThat(messageConfig.key()).isNull();
+        assertThat(messageConfig.key().isDefined()).isFalse();
     }
 }
@@ -16,12 +16,15 @@
 
 package io.github.raedbh.spring.outbox.connector.kafka;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RecordTooLargeException;
 import org.apache.kafka.common.header.Header;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,12 +38,15 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 
 import io.github.raedbh.spring.outbox.connector.OutboxData;
+import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer.FatalDeliveryException;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -134,6 +140,78 @@ class KafkaOutboxMessageProducerTests {
         assertThat(capturedRecord.value()).isEqualTo(outboxData.getPayload());
     }
 
+    @Test
+    void deriveKeyFromEventEntityIdByDefault() {
+
+        given(env.getProperty("spring.outbox.connector.kafka.messages.order-placed.topic"))
+          .willReturn("topic");
+        givenSuccessfulKafkaTemplateSend();
+
+        producer.produceMessage(new OutboxData("1a2b3c", "OrderPlaced", "TestPayload".getBytes(),
+          Map.of("event_entity_id", "order-42")));
+
+        ArgumentCaptor<ProducerRecord<String, byte[]>> recordCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(recordCaptor.capture());
+
+        assertThat(recordCaptor.getValue().key()).isEqualTo("order-42");
+        assertThat(recordCaptor.getValue().partition()).isNull();
+    }
+
+    @Test
+    void deriveKeyFromKeyExpression() {
+
+        Map<String, String> properties = Map.of(
+          "spring.outbox.connector.kafka.messages.order-placed.topic", "topic",
+          "spring.outbox.connector.kafka.messages.order-placed.key-expression",
+          "metadata['event_entity_type'] + ':' + metadata['event_entity_id']");
+        given(env.getProperty(anyString())).willAnswer(invocation -> properties.get(invocation.<String>getArgument(0)));
+        givenSuccessfulKafkaTemplateSend();
+
+        producer.produceMessage(new OutboxData("1a2b3c", "OrderPlaced", "TestPayload".getBytes(),
+          Map.of("event_entity_type", "Order", "event_entity_id", "42")));
+
+        ArgumentCaptor<ProducerRecord<String, byte[]>> recordCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(recordCaptor.capture());
+
+        assertThat(recordCaptor.getValue().key()).isEqualTo("Order:42");
+    }
+
+    @Test
+    void deriveTopicFromTopicExpression() {
+
+        Map<String, String> properties = Map.of(
+          "spring.outbox.connector.kafka.messages.order-placed.topic-expression",
+          "'events.' + metadata['event_entity_type']");
+        given(env.getProperty(anyString())).willAnswer(invocation -> properties.get(invocation.<String>getArgument(0)));
+        givenSuccessfulKafkaTemplateSend();
+
+        producer.produceMessage(new OutboxData("1a2b3c", "OrderPlaced", "TestPayload".getBytes(),
+          Map.of("event_entity_type", "Order")));
+
+        ArgumentCaptor<ProducerRecord<String, byte[]>> recordCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(recordCaptor.capture());
+
+        assertThat(recordCaptor.getValue().topic()).isEqualTo("events.Order");
+    }
+
+    @Test
+    void reloadMessageConfigs() {
+
+        given(env.getProperty("spring.outbox.connector.kafka.messages.order-placed.topic"))
+          .willReturn("topic", "other-topic");
+        givenSuccessfulKafkaTemplateSend();
+
+        producer.produceMessage(outboxData);
+        producer.reloadMessageConfigs();
+        producer.produceMessage(outboxData);
+
+        ArgumentCaptor<ProducerRecord<String, byte[]>> recordCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(recordCaptor.capture());
+
+        assertThat(recordCaptor.getAllValues()).extracting(ProducerRecord::topic)
+          .containsExactly("topic", "other-topic");
+    }
+
     @Test
     void messageSentWithMetadataAsHeaders() {
 
@@ -163,6 +241,46 @@ class KafkaOutboxMessageProducerTests {
           });
     }
 
+    @Test
+    void acknowledgementFailsWhenSendFails() {
+
+        given(env.getProperty("spring.outbox.connector.kafka.messages.order-placed.topic"))
+          .willReturn("topic");
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+          .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        CompletableFuture<Void> acknowledgement = producer.produceMessageAcknowledged(outboxData);
+
+        assertThat(acknowledgement).isCompletedExceptionally();
+    }
+
+    @Test
+    void acknowledgementFailsFatallyWhenRecordTooLarge() {
+
+        given(env.getProperty("spring.outbox.connector.kafka.messages.order-placed.topic"))
+          .willReturn("topic");
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+          .willReturn(CompletableFuture.failedFuture(new RecordTooLargeException("record too large")));
+
+        CompletableFuture<Void> acknowledgement = producer.produceMessageAcknowledged(outboxData);
+
+        assertThat(acknowledgement).failsWithin(Duration.ZERO)
+          .withThrowableOfType(ExecutionException.class)
+          .withCauseInstanceOf(FatalDeliveryException.class);
+    }
+
+    @Test
+    void acknowledgementCompletesWhenSendSucceeds() {
+
+        given(env.getProperty("spring.outbox.connector.kafka.messages.order-placed.topic"))
+          .willReturn("topic");
+        givenSuccessfulKafkaTemplateSend();
+
+        CompletableFuture<Void> acknowledgement = producer.produceMessageAcknowledged(outboxData);
+
+        assertThat(acknowledgement).isCompleted().isNotCompletedExceptionally();
+    }
+
     private void givenSuccessfulKafkaTemplateSend() {
 
         RecordMetadata metadata = new RecordMetadata(
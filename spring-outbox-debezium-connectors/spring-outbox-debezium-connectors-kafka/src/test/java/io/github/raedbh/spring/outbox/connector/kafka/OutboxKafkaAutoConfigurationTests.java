@@ -16,11 +16,24 @@
 
 package io.github.raedbh.spring.outbox.connector.kafka;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.connect.runtime.standalone.StandaloneConfig;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import io.github.raedbh.spring.outbox.connector.OutboxEngineSettingsCustomizer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -39,4 +52,92 @@ class OutboxKafkaAutoConfigurationTests {
           .withBean(KafkaTemplate.class, () -> Mockito.mock(KafkaTemplate.class))
           .run(context -> assertThat(context).hasSingleBean(KafkaOutboxMessageProducer.class));
     }
+
+    @Test
+    void autoConfigureTransactionalProducer() {
+        new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(OutboxKafkaAutoConfiguration.class))
+          .withBean(KafkaTemplate.class, OutboxKafkaAutoConfigurationTests::transactionalKafkaTemplate)
+          .withPropertyValues("spring.outbox.connector.kafka.transactional=true",
+            "spring.outbox.connector.offset-storage.class-name="
+              + TransactionalKafkaOffsetBackingStore.class.getName())
+          .run(context -> assertThat(context).hasSingleBean(TransactionalKafkaOutboxMessageProducer.class));
+    }
+
+    @Test
+    void rejectTransactionalProducerWithoutKafkaOffsetStore() {
+        new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(OutboxKafkaAutoConfiguration.class))
+          .withBean(KafkaTemplate.class, OutboxKafkaAutoConfigurationTests::transactionalKafkaTemplate)
+          .withPropertyValues("spring.outbox.connector.kafka.transactional=true")
+          .run(context -> assertThat(context).getFailure().hasRootCauseInstanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    void readOffsetsFromTheClusterOfTheProducer() {
+        new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(KafkaAutoConfiguration.class, OutboxKafkaAutoConfiguration.class))
+          .withPropertyValues("spring.kafka.bootstrap-servers=broker-1:9093,broker-2:9093",
+            "spring.kafka.producer.transaction-id-prefix=outbox-",
+            "spring.kafka.producer.value-serializer=" + ByteArraySerializer.class.getName(),
+            "spring.kafka.security.protocol=SSL",
+            "spring.outbox.connector.kafka.transactional=true",
+            "spring.outbox.connector.offset-storage.class-name="
+              + TransactionalKafkaOffsetBackingStore.class.getName())
+          .run(context -> {
+
+              Map<String, Object> settings = new HashMap<>();
+              settings.put("key.converter", "org.apache.kafka.connect.json.JsonConverter");
+              settings.put("value.converter", "org.apache.kafka.connect.json.JsonConverter");
+              settings.put("offset.storage.file.filename", "unused");
+              context.getBean(OutboxEngineSettingsCustomizer.class).customize(settings);
+
+              AtomicReference<Map<String, Object>> consumerConfig = new AtomicReference<>();
+              TransactionalKafkaOffsetBackingStore store = new TransactionalKafkaOffsetBackingStore() {
+                  @Override
+                  Consumer<byte[], byte[]> createConsumer(Map<String, Object> config) {
+                      consumerConfig.set(config);
+                      return new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+                  }
+              };
+              Map<String, String> workerConfig = new HashMap<>();
+              settings.forEach((name, value) -> workerConfig.put(name, value.toString()));
+              store.configure(new StandaloneConfig(workerConfig));
+              store.start();
+              store.stop();
+
+              assertThat(consumerConfig.get())
+                .containsEntry("bootstrap.servers", "broker-1:9093,broker-2:9093")
+                .containsEntry("security.protocol", "SSL");
+          });
+    }
+
+    @Test
+    void keepConfiguredOffsetStoreConsumerSettings() {
+        new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(OutboxKafkaAutoConfiguration.class))
+          .withBean(KafkaTemplate.class, OutboxKafkaAutoConfigurationTests::transactionalKafkaTemplate)
+          .withPropertyValues("spring.outbox.connector.kafka.transactional=true",
+            "spring.outbox.connector.offset-storage.class-name="
+              + TransactionalKafkaOffsetBackingStore.class.getName())
+          .run(context -> {
+
+              Map<String, Object> settings = new HashMap<>();
+              settings.put("offset.storage.consumer.bootstrap.servers", "offsets:9092");
+              context.getBean(OutboxEngineSettingsCustomizer.class).customize(settings);
+
+              assertThat(settings)
+                .containsExactly(Map.entry("offset.storage.consumer.bootstrap.servers", "offsets:9092"));
+          });
+    }
+
+    private static KafkaTemplate<?, ?> transactionalKafkaTemplate() {
+        KafkaTemplate<?, ?> kafkaTemplate = Mockito.mock(KafkaTemplate.class);
+        Mockito.when(kafkaTemplate.isTransactional()).thenReturn(true);
+        ProducerFactory<?, ?> producerFactory = Mockito.mock(ProducerFactory.class);
+        Mockito.when(producerFactory.getConfigurationProperties())
+          .thenReturn(Map.of("bootstrap.servers", "broker:9092"));
+        Mockito.doReturn(producerFactory).when(kafkaTemplate).getProducerFactory();
+        return kafkaTemplate;
+    }
 }
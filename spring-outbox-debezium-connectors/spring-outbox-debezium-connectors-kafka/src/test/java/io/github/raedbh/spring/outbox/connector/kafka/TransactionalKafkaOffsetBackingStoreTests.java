@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.kafka;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.connect.runtime.standalone.StandaloneConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TransactionalKafkaOffsetBackingStore}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class TransactionalKafkaOffsetBackingStoreTests {
+
+    static final String TOPIC = "outbox-offsets";
+    static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    MockConsumer<byte[], byte[]> consumer;
+    Map<String, Object> consumerConfig;
+    TransactionalKafkaOffsetBackingStore store;
+
+    @BeforeEach
+    void setUp() {
+
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        store = new TransactionalKafkaOffsetBackingStore() {
+            @Override
+            Consumer<byte[], byte[]> createConsumer(Map<String, Object> config) {
+                consumerConfig = config;
+                return consumer;
+            }
+        };
+
+        Map<String, String> workerConfig = new HashMap<>();
+        workerConfig.put("key.converter", "org.apache.kafka.connect.json.JsonConverter");
+        workerConfig.put("value.converter", "org.apache.kafka.connect.json.JsonConverter");
+        workerConfig.put("offset.storage.file.filename", "unused");
+        workerConfig.put("bootstrap.servers", "broker:9092");
+        workerConfig.put("offset.storage.topic", TOPIC);
+        workerConfig.put("offset.storage.consumer.client.id", "outbox-offsets-reader");
+        store.configure(new StandaloneConfig(workerConfig));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.stop();
+    }
+
+    @Test
+    void readCommittedOffsetsOnStart() throws Exception {
+
+        consumer.updatePartitions(TOPIC, List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.updateEndOffsets(Map.of(PARTITION, 4L));
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(offsetRecord(0, "postgres", "{\"lsn\":1}"));
+            consumer.addRecord(offsetRecord(1, "mysql", "{\"pos\":7}"));
+            consumer.addRecord(offsetRecord(2, "postgres", "{\"lsn\":2}"));
+            consumer.addRecord(offsetRecord(3, "mysql", null));
+        });
+
+        store.start();
+
+        ByteBuffer postgres = ByteBuffer.wrap(key("postgres"));
+        ByteBuffer mysql = ByteBuffer.wrap(key("mysql"));
+        Map<ByteBuffer, ByteBuffer> offsets = store.get(List.of(postgres, mysql)).get();
+        assertThat(offsets.get(postgres)).isEqualTo(ByteBuffer.wrap("{\"lsn\":2}".getBytes(UTF_8)));
+        assertThat(offsets.get(mysql)).isNull();
+
+        assertThat(consumerConfig)
+          .containsEntry(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed")
+          .containsEntry(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, List.of("broker:9092"))
+          .containsEntry(ConsumerConfig.CLIENT_ID_CONFIG, "outbox-offsets-reader");
+        assertThat(consumer.closed()).isTrue();
+    }
+
+    @Test
+    void startWithoutOffsetsTopic() throws Exception {
+
+        store.start();
+
+        ByteBuffer postgres = ByteBuffer.wrap(key("postgres"));
+        assertThat(store.get(List.of(postgres)).get()).containsEntry(postgres, null);
+    }
+
+    private static ConsumerRecord<byte[], byte[]> offsetRecord(long offset, String server, String value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, key(server), value != null ? value.getBytes(UTF_8) : null);
+    }
+
+    private static byte[] key(String server) {
+        return ("[\"outbox\",{\"server\":\"" + server + "\"}]").getBytes(UTF_8);
+    }
+}
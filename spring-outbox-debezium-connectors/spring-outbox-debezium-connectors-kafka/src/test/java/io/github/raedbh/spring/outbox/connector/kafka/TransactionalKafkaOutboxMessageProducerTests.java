@@ -0,0 +1,159 @@
+/*
+ *  Copyright 2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.kafka;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.ProducerFencedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import io.github.raedbh.spring.outbox.connector.OutboxData;
+import io.github.raedbh.spring.outbox.connector.TransactionalOutboxMessageProducer.FatalTransactionException;
+import io.github.raedbh.spring.outbox.connector.TransactionalOutboxMessageProducer.SourceOffset;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link TransactionalKafkaOutboxMessageProducer}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionalKafkaOutboxMessageProducerTests {
+
+    @Mock KafkaTemplate<String, byte[]> kafkaTemplate;
+    @Mock Environment env;
+
+    OutboxData orderPlaced;
+    OutboxData orderPaid;
+
+    @BeforeEach
+    void setUp() {
+        orderPlaced = new OutboxData("1a2b3c", "OrderPlaced", "placed".getBytes(), Map.of("event_entity_id", "42"));
+        orderPaid = new OutboxData("4d5e6f", "OrderPaid", "paid".getBytes(), Map.of("event_entity_id", "42"));
+    }
+
+    @Test
+    void messagesAndOffsetsSentInOneTransaction() {
+
+        givenTopics(Map.of(
+          "spring.outbox.connector.kafka.messages.order-placed.topic", "orders",
+          "spring.outbox.connector.kafka.messages.order-paid.topic", "payments"));
+        givenTransactionalKafkaTemplate();
+
+        SourceOffset sourceOffset = new SourceOffset("[\"connector\",{\"server\":\"outbox\"}]".getBytes(UTF_8),
+          "{\"lsn\":42}".getBytes(UTF_8));
+        newProducer().produceMessagesInTransaction(List.of(orderPlaced, orderPaid), List.of(sourceOffset));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, byte[]>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        InOrder inOrder = inOrder(kafkaTemplate);
+        inOrder.verify(kafkaTemplate).executeInTransaction(any());
+        inOrder.verify(kafkaTemplate, times(2)).send(records.capture());
+        inOrder.verify(kafkaTemplate).send("offsets", "[\"connector\",{\"server\":\"outbox\"}]",
+          "{\"lsn\":42}".getBytes(UTF_8));
+
+        assertThat(records.getAllValues()).extracting(ProducerRecord::topic).containsExactly("orders", "payments");
+        assertThat(records.getAllValues()).extracting(ProducerRecord::key).containsExactly("42", "42");
+    }
+
+    @Test
+    void skipMessagesWithoutTopic() {
+
+        givenTopics(Map.of("spring.outbox.connector.kafka.messages.order-paid.topic", "payments"));
+        givenTransactionalKafkaTemplate();
+
+        newProducer().produceMessagesInTransaction(List.of(orderPlaced, orderPaid), List.of());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, byte[]>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(records.capture());
+        assertThat(records.getValue().topic()).isEqualTo("payments");
+    }
+
+    @Test
+    void propagateAbortedTransaction() {
+
+        given(kafkaTemplate.isTransactional()).willReturn(true);
+        given(kafkaTemplate.executeInTransaction(any())).willThrow(new KafkaException("fenced"));
+
+        TransactionalKafkaOutboxMessageProducer producer = newProducer();
+
+        assertThatExceptionOfType(KafkaException.class)
+          .isThrownBy(() -> producer.produceMessagesInTransaction(List.of(orderPlaced), List.of()));
+        assertThat(producer.produceMessageAcknowledged(orderPlaced)).isCompletedExceptionally();
+    }
+
+    @Test
+    void reportFencedProducerAsFatal() {
+
+        given(kafkaTemplate.isTransactional()).willReturn(true);
+        given(kafkaTemplate.executeInTransaction(any()))
+          .willThrow(new KafkaException("commit failed", new ProducerFencedException("fenced")));
+
+        TransactionalKafkaOutboxMessageProducer producer = newProducer();
+
+        assertThatExceptionOfType(FatalTransactionException.class)
+          .isThrownBy(() -> producer.produceMessagesInTransaction(List.of(orderPlaced), List.of()))
+          .withRootCauseInstanceOf(ProducerFencedException.class);
+    }
+
+    @Test
+    void rejectNonTransactionalKafkaTemplate() {
+
+        assertThatIllegalStateException().isThrownBy(this::newProducer);
+        verify(kafkaTemplate, never()).executeInTransaction(any());
+    }
+
+    private TransactionalKafkaOutboxMessageProducer newProducer() {
+        return new TransactionalKafkaOutboxMessageProducer(kafkaTemplate, env, "offsets");
+    }
+
+    private void givenTopics(Map<String, String> properties) {
+        given(env.getProperty(anyString())).willAnswer(invocation -> properties.get(invocation.<String>getArgument(0)));
+    }
+
+    private void givenTransactionalKafkaTemplate() {
+        given(kafkaTemplate.isTransactional()).willReturn(true);
+        given(kafkaTemplate.executeInTransaction(any())).willAnswer(invocation ->
+          invocation.<KafkaOperations.OperationsCallback<String, byte[], ?>>getArgument(0)
+            .doInOperations(kafkaTemplate));
+    }
+}
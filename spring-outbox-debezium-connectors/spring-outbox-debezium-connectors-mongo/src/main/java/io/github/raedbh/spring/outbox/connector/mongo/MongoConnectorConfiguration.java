@@ -17,18 +17,15 @@
 
 package io.github.raedbh.spring.outbox.connector.mongo;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.github.raedbh.spring.outbox.connector.core.ConnectorStorage;
 import io.github.raedbh.spring.outbox.connector.core.OutboxConnectorProperties;
 
-import static java.util.Objects.requireNonNullElse;
-
 @Configuration(proxyBeanMethods = false)
 public class MongoConnectorConfiguration {
 
@@ -44,15 +41,7 @@ public class MongoConnectorConfiguration {
         configMap.put("database.include.list", props.getDatabase().getDbname());
         configMap.put("collection.include.list", props.getDatabase().getDbname() + ".outbox");
 
-        configMap.put("offset.storage", props.getOffsetStorage().getClassName());
-
-        try {
-            configMap.put("offset.storage.file.filename",
-              requireNonNullElse(props.getOffsetStorage().getFilePath(),
-                File.createTempFile("outbox-mongo-offset-", ".dat").getAbsolutePath()));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        configMap.putAll(ConnectorStorage.offsetStorage(props, "mongo", null));
 
         configMap.put("topic.prefix", props.getTopicPrefix());
 
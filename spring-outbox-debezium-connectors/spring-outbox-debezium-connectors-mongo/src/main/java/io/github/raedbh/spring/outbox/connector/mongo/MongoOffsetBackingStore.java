@@ -0,0 +1,186 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.mongo;
+
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.kafka.connect.runtime.WorkerConfig;
+import org.apache.kafka.connect.storage.MemoryOffsetBackingStore;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCredential;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An offset backing store keeping the connector offsets in a collection of the outbox database, so that they survive
+ * the loss of the local file system.
+ *
+ * <p>Each source partition is a document whose {@code _id} is the serialized partition and whose {@code value} is the
+ * serialized offset, both JSON. Offsets are loaded on start and written back every time the engine flushes them.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+public class MongoOffsetBackingStore extends MemoryOffsetBackingStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoOffsetBackingStore.class);
+
+    static final String CONNECTION_STRING_CONFIG = "offset.storage.mongodb.connection.string";
+    static final String DATABASE_CONFIG = "offset.storage.mongodb.database";
+    static final String COLLECTION_CONFIG = "offset.storage.mongodb.collection";
+    static final String USER_CONFIG = "offset.storage.mongodb.user";
+    static final String PASSWORD_CONFIG = "offset.storage.mongodb.password";
+    static final String AUTH_SOURCE_CONFIG = "offset.storage.mongodb.auth.source";
+
+    static final String DEFAULT_COLLECTION = "debezium_offset_storage";
+    static final String DEFAULT_AUTH_SOURCE = "admin";
+
+    private static final String VALUE_FIELD = "value";
+
+    private MongoClientSettings settings;
+    private String database;
+    private String collectionName;
+
+    private MongoClient mongoClient;
+    private MongoCollection<Document> collection;
+
+    @Override
+    public void configure(WorkerConfig config) {
+
+        super.configure(config);
+
+        Map<String, Object> originals = config.originals();
+        String connectionString = required(originals, CONNECTION_STRING_CONFIG);
+        MongoClientSettings.Builder builder = MongoClientSettings.builder()
+          .applyConnectionString(new ConnectionString(connectionString));
+        Object user = originals.get(USER_CONFIG);
+        if (user != null) {
+            Object password = originals.get(PASSWORD_CONFIG);
+            String authSource = authSource(originals, connectionString);
+            builder.credential(MongoCredential.createCredential(user.toString(), authSource,
+              password != null ? password.toString().toCharArray() : new char[0]));
+        }
+
+        this.settings = builder.build();
+        this.database = required(originals, DATABASE_CONFIG);
+        Object collection = originals.get(COLLECTION_CONFIG);
+        this.collectionName = collection != null ? collection.toString() : DEFAULT_COLLECTION;
+    }
+
+    /**
+     * The database holding the credentials of the user: {@value #AUTH_SOURCE_CONFIG} if set, else the
+     * {@code authSource} option of the connection string, else {@value #DEFAULT_AUTH_SOURCE}.
+     */
+    static String authSource(Map<String, Object> originals, String connectionString) {
+
+        Object authSource = originals.get(AUTH_SOURCE_CONFIG);
+        if (authSource != null) {
+            return authSource.toString();
+        }
+
+        int query = connectionString.indexOf('?');
+        if (query >= 0) {
+            for (String option : connectionString.substring(query + 1).split("[&;]")) {
+                int separator = option.indexOf('=');
+                if (separator > 0 && option.substring(0, separator).equalsIgnoreCase("authSource")) {
+                    return URLDecoder.decode(option.substring(separator + 1), UTF_8);
+                }
+            }
+        }
+        return DEFAULT_AUTH_SOURCE;
+    }
+
+    private static String required(Map<String, Object> originals, String name) {
+        Object value = originals.get(name);
+        if (value == null) {
+            throw new IllegalStateException(name + " must be set");
+        }
+        return value.toString();
+    }
+
+    @Override
+    public synchronized void start() {
+
+        super.start();
+
+        mongoClient = MongoClients.create(settings);
+        collection = mongoClient.getDatabase(database).getCollection(collectionName);
+
+        for (Document document : collection.find()) {
+            String value = document.getString(VALUE_FIELD);
+            if (value != null) {
+                data.put(ByteBuffer.wrap(document.getString("_id").getBytes(UTF_8)),
+                  ByteBuffer.wrap(value.getBytes(UTF_8)));
+            }
+        }
+
+        LOGGER.info("Read {} source offsets from collection '{}.{}'", data.size(), database, collectionName);
+    }
+
+    @Override
+    public synchronized void stop() {
+        super.stop();
+        if (mongoClient != null) {
+            mongoClient.close();
+            mongoClient = null;
+        }
+    }
+
+    @Override
+    protected void save() {
+
+        List<WriteModel<Document>> writes = new ArrayList<>(data.size());
+        data.forEach((key, value) -> {
+            String id = UTF_8.decode(key.duplicate()).toString();
+            if (value == null) {
+                writes.add(new DeleteOneModel<>(Filters.eq("_id", id)));
+            } else {
+                writes.add(new ReplaceOneModel<>(Filters.eq("_id", id),
+                  new Document("_id", id).append(VALUE_FIELD, UTF_8.decode(value.duplicate()).toString()),
+                  new ReplaceOptions().upsert(true)));
+            }
+        });
+
+        if (!writes.isEmpty()) {
+            collection.bulkWrite(writes);
+        }
+    }
+
+    @Override
+    public Set<Map<String, Object>> connectorPartitions(String connectorName) {
+        // only needed by the offsets REST API of Kafka Connect workers
+        return Set.of();
+    }
+}
@@ -16,14 +16,13 @@
 
 package io.github.raedbh.spring.outbox.connector.mysql;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.github.raedbh.spring.outbox.connector.core.ConnectorStorage;
 import io.github.raedbh.spring.outbox.connector.core.OutboxConnectorProperties;
 
 import static java.util.Objects.requireNonNullElse;
@@ -38,6 +37,10 @@ public class MysqlConnectorConfiguration {
     @Bean
     public io.debezium.config.Configuration mysqlConfiguration(OutboxConnectorProperties props) {
 
+        String jdbcUrl = requireNonNullElse(props.getDatabase().getUrl(), "jdbc:mysql://"
+          + props.getDatabase().getHostname() + ":" + requireNonNullElse(props.getDatabase().getPort(), 3306) + "/"
+          + props.getDatabase().getDbname());
+
         Map<String, Object> configMap = new HashMap<>();
         configMap.put("name", "outbox-mysql-connector");
         configMap.put("connector.class", "io.debezium.connector.mysql.MySqlConnector");
@@ -49,32 +52,21 @@ public class MysqlConnectorConfiguration {
         configMap.put("database.include.list", props.getDatabase().getDbname());
         configMap.put("table.include.list", props.getDatabase().getDbname() + ".outbox");
 
-        configMap.put("offset.storage", props.getOffsetStorage().getClassName());
-
-        try {
-            configMap.put("offset.storage.file.filename",
-              requireNonNullElse(props.getOffsetStorage().getFilePath(),
-                File.createTempFile("outbox-mysql-offset-", ".dat").getAbsolutePath()));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        configMap.putAll(ConnectorStorage.offsetStorage(props, "mysql", jdbcUrl));
 
         configMap.put("topic.prefix", "outbox");
 
-        configMap.put("schema.history.internal", props.getSchemaHistory().getClassName());
-
-        try {
-            configMap.put("schema.history.internal.file.filename",
-              requireNonNullElse(props.getSchemaHistory().getFilePath(),
-                File.createTempFile("outbox-mysql-schema-history-", ".dat")
-                  .getAbsolutePath()));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        configMap.putAll(ConnectorStorage.schemaHistory(props, "mysql", jdbcUrl));
 
         configMap.put("snapshot.mode", props.getSnapshotMode());
         configMap.put("snapshot.locking.mode", props.getSnapshotLockingMode());
 
+        if (props.getDatabase().isBinlogOnly()) {
+            // a BLACKHOLE outbox table is always empty: only capture its schema, and nothing but inserts can occur
+            configMap.put("snapshot.mode", "no_data");
+            configMap.put("skipped.operations", "u,d,t");
+        }
+
         configMap.putAll(props.getAdditionalProperties());
 
         return io.debezium.config.Configuration.from(configMap);
@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.postgres;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.raedbh.spring.outbox.connector.OutboxEngineStartHook;
+import io.github.raedbh.spring.outbox.connector.core.OutboxConnectorProperties.DatabaseProperties;
+
+/**
+ * Ensures the publication of a partitioned outbox table publishes changes via the partition root.
+ *
+ * <p>Without {@code publish_via_partition_root}, changes are published under the name of each partition, which
+ * neither matches the {@code outbox} table filter nor survives partition rotation. Debezium does not set this option
+ * when it creates publications itself, so the publication is created (or altered) here, as a start hook of the
+ * engine rather than while the connector configuration is created.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxPublication implements OutboxEngineStartHook {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxPublication.class);
+
+    static final String NAME = "outbox_publication";
+
+    private final DatabaseProperties database;
+
+
+    OutboxPublication(DatabaseProperties database) {
+        this.database = database;
+    }
+
+
+    @Override
+    public void beforeStart() throws SQLException {
+
+        if (!database.isPartitioned()) {
+            return;
+        }
+
+        String url = PostgresConnectorConfiguration.jdbcUrl(database);
+        String outboxTable = database.getSchema() + ".outbox";
+
+        try (Connection connection = DriverManager.getConnection(url, database.getUser(), database.getPassword());
+             PreparedStatement query = connection.prepareStatement(
+               "SELECT pubviaroot FROM pg_publication WHERE pubname = ?")) {
+
+            query.setString(1, NAME);
+
+            try (ResultSet resultSet = query.executeQuery(); Statement statement = connection.createStatement()) {
+                if (!resultSet.next()) {
+                    LOGGER.info("Creating publication {} for partitioned table {}", NAME, outboxTable);
+                    statement.execute("CREATE PUBLICATION " + NAME + " FOR TABLE " + outboxTable
+                      + " WITH (publish_via_partition_root = true)");
+                } else if (!resultSet.getBoolean(1)) {
+                    LOGGER.info("Enabling publish_via_partition_root on publication {}", NAME);
+                    statement.execute("ALTER PUBLICATION " + NAME + " SET (publish_via_partition_root = true)");
+                }
+            }
+        }
+    }
+}
@@ -16,14 +16,14 @@
 
 package io.github.raedbh.spring.outbox.connector.postgres;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.github.raedbh.spring.outbox.connector.OutboxDataMapper;
+import io.github.raedbh.spring.outbox.connector.core.ConnectorStorage;
 import io.github.raedbh.spring.outbox.connector.core.OutboxConnectorProperties;
 
 import static java.util.Objects.requireNonNullElse;
@@ -38,6 +38,8 @@ public class PostgresConnectorConfiguration {
     @Bean
     public io.debezium.config.Configuration postgresConfiguration(OutboxConnectorProperties props) {
 
+        String jdbcUrl = jdbcUrl(props.getDatabase());
+
         Map<String, Object> configMap = new HashMap<>();
         configMap.put("name", "outbox-postgres-connector");
         configMap.put("connector.class", "io.debezium.connector.postgresql.PostgresConnector");
@@ -48,29 +50,19 @@ public class PostgresConnectorConfiguration {
         configMap.put("database.password", props.getDatabase().getPassword());
         configMap.put("schema.include.list", props.getDatabase().getSchema());
         configMap.put("table.include.list", props.getDatabase().getSchema() + ".outbox");
+        // outbox entries emitted with pg_logical_emit_message instead of being inserted in the outbox table
+        configMap.put("message.prefix.include.list", OutboxDataMapper.LOGICAL_MESSAGE_PREFIX);
 
-        configMap.put("offset.storage", props.getOffsetStorage().getClassName());
-
-        try {
-            configMap.put("offset.storage.file.filename",
-              requireNonNullElse(props.getOffsetStorage().getFilePath(),
-                File.createTempFile("outbox-postgres-offset-", ".dat").getAbsolutePath()));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        if (props.getDatabase().isPartitioned()) {
+            configMap.put("publication.name", OutboxPublication.NAME);
+            configMap.put("publication.autocreate.mode", "disabled");
         }
 
-        configMap.put("topic.prefix", "outbox");
+        configMap.putAll(ConnectorStorage.offsetStorage(props, "postgres", jdbcUrl));
 
-        configMap.put("schema.history.internal", props.getSchemaHistory().getClassName());
+        configMap.put("topic.prefix", "outbox");
 
-        try {
-            configMap.put("schema.history.internal.file.filename",
-              requireNonNullElse(props.getSchemaHistory().getFilePath(),
-                File.createTempFile("outbox-postgres-schema-history-", ".dat")
-                  .getAbsolutePath()));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        configMap.putAll(ConnectorStorage.schemaHistory(props, "postgres", jdbcUrl));
 
         configMap.put("snapshot.mode", props.getSnapshotMode());
         configMap.put("snapshot.locking.mode", props.getSnapshotLockingMode());
@@ -79,4 +71,14 @@ public class PostgresConnectorConfiguration {
 
         return io.debezium.config.Configuration.from(configMap);
     }
+
+    @Bean
+    OutboxPublication outboxPublication(OutboxConnectorProperties props) {
+        return new OutboxPublication(props.getDatabase());
+    }
+
+    static String jdbcUrl(OutboxConnectorProperties.DatabaseProperties database) {
+        return requireNonNullElse(database.getUrl(), "jdbc:postgresql://" + database.getHostname() + ":"
+          + requireNonNullElse(database.getPort(), 5432) + "/" + database.getDbname());
+    }
 }
@@ -22,6 +22,8 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.env.Environment;
 
@@ -34,10 +36,14 @@ import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
 @AutoConfiguration
 @AutoConfigureAfter(RabbitAutoConfiguration.class)
 @ConditionalOnClass(RabbitTemplate.class)
+@EnableConfigurationProperties(OutboxRabbitProperties.class)
 public class OutboxRabbitAutoConfiguration {
 
     @Bean
-    OutboxMessageProducer outboxMessageProducer(RabbitOperations rabbitOperations, Environment environment) {
-        return new RabbitOutboxMessageProducer(rabbitOperations, environment);
+    @ConditionalOnMissingBean
+    OutboxMessageProducer outboxMessageProducer(RabbitOperations rabbitOperations, Environment environment,
+      OutboxRabbitProperties outboxRabbitProperties) {
+
+        return new RabbitOutboxMessageProducer(rabbitOperations, environment, outboxRabbitProperties);
     }
 }
@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.rabbit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the RabbitMQ outbox connector.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@ConfigurationProperties("spring.outbox.connector.rabbit")
+public class OutboxRabbitProperties {
+
+    private int channels = 1;
+    private ChannelPinning channelPinning = ChannelPinning.ROUTING_KEY;
+
+    /**
+     * The maximum number of channels publishing in parallel. Channels are opened as messages get pinned to them.
+     */
+    public int getChannels() {
+        return channels;
+    }
+
+    public void setChannels(int channels) {
+        this.channels = channels;
+    }
+
+    /**
+     * What pins a message to a channel, so that the messages sharing it are published in order.
+     */
+    public ChannelPinning getChannelPinning() {
+        return channelPinning;
+    }
+
+    public void setChannelPinning(ChannelPinning channelPinning) {
+        this.channelPinning = channelPinning;
+    }
+
+    public enum ChannelPinning {
+
+        /**
+         * Messages with the same resolved routing key go through the same channel.
+         */
+        ROUTING_KEY,
+
+        /**
+         * Messages of the same aggregate, per their {@code event_entity_id} metadata, go through the same channel.
+         */
+        ENTITY_ID
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.rabbit;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
+
+/**
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@AutoConfiguration
+@AutoConfigureAfter(RabbitAutoConfiguration.class)
+@AutoConfigureBefore(OutboxRabbitAutoConfiguration.class)
+@ConditionalOnClass(com.rabbitmq.stream.Environment.class)
+@ConditionalOnProperty(prefix = "spring.outbox.connector.rabbit.stream", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(OutboxRabbitStreamProperties.class)
+public class OutboxRabbitStreamAutoConfiguration {
+
+    @Bean
+    OutboxMessageProducer outboxMessageProducer(com.rabbitmq.stream.Environment streamEnvironment,
+      Environment environment, OutboxRabbitStreamProperties outboxRabbitStreamProperties) {
+        return new RabbitStreamOutboxMessageProducer(streamEnvironment, environment, outboxRabbitStreamProperties);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.rabbit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.rabbitmq.stream.compression.Compression;
+
+/**
+ * Configuration properties for publishing outbox messages to RabbitMQ streams.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@ConfigurationProperties("spring.outbox.connector.rabbit.stream")
+public class OutboxRabbitStreamProperties {
+
+    private boolean enabled;
+    private String producerName;
+    private boolean deduplication;
+    private String publishingIdDirectory;
+    private int maxPublishingIds = 100_000;
+    private int batchSize = 100;
+    private int subEntrySize = 1;
+    private Compression compression = Compression.NONE;
+
+    /**
+     * Whether to publish outbox messages to RabbitMQ streams, over the stream protocol, instead of exchanges.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * The name of the stream producers, required for deduplication. It must be unique per connector.
+     */
+    public String getProducerName() {
+        return producerName;
+    }
+
+    public void setProducerName(String producerName) {
+        this.producerName = producerName;
+    }
+
+    /**
+     * Whether the broker drops confirmed messages published again, e.g. replayed after a restart, based on their
+     * publishing id. Requires a producer name and no sub-entry batching.
+     */
+    public boolean isDeduplication() {
+        return deduplication;
+    }
+
+    public void setDeduplication(boolean deduplication) {
+        this.deduplication = deduplication;
+    }
+
+    /**
+     * The directory where the publishing ids given to outbox ids are persisted, required for deduplication. It must
+     * outlive restarts of the application, so that replayed messages are published with their original publishing id.
+     */
+    public String getPublishingIdDirectory() {
+        return publishingIdDirectory;
+    }
+
+    public void setPublishingIdDirectory(String publishingIdDirectory) {
+        this.publishingIdDirectory = publishingIdDirectory;
+    }
+
+    /**
+     * The number of latest publishing ids remembered per stream. It should exceed the number of messages a restart
+     * may replay, i.e. the messages published between two offset commits.
+     */
+    public int getMaxPublishingIds() {
+        return maxPublishingIds;
+    }
+
+    public void setMaxPublishingIds(int maxPublishingIds) {
+        this.maxPublishingIds = maxPublishingIds;
+    }
+
+    /**
+     * The maximum number of messages accumulated before a publish frame is sent.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * The number of messages packed into each sub-entry of a publish frame, greater than 1 to enable sub-entry
+     * batching.
+     */
+    public int getSubEntrySize() {
+        return subEntrySize;
+    }
+
+    public void setSubEntrySize(int subEntrySize) {
+        this.subEntrySize = subEntrySize;
+    }
+
+    /**
+     * The compression of sub-entries, only applied with sub-entry batching.
+     */
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public void setCompression(Compression compression) {
+        this.compression = compression;
+    }
+}
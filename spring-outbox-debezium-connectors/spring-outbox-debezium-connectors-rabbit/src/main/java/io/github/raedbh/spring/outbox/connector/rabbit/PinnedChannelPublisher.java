@@ -0,0 +1,221 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.rabbit;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.lang.Nullable;
+
+/**
+ * Publishes messages over a pool of channels, each channel being bound to its own thread for as long as it lives, so
+ * that messages pinned to the same channel are published in order while the others are published in parallel.
+ *
+ * <p>Each slot opens its channel and starts its thread on its first message, so the pool grows with the variety of
+ * the pinning keys up to its size. The pool never shrinks: an opened channel and its thread are kept until the
+ * publisher is closed. A slot whose channel fails binds a new one, backing off while the binding keeps failing.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class PinnedChannelPublisher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PinnedChannelPublisher.class);
+
+    private static final long MIN_REBIND_BACKOFF_MILLIS = 100;
+    private static final long MAX_REBIND_BACKOFF_MILLIS = 10_000;
+
+    private final RabbitOperations rabbitOperations;
+    private final Slot[] slots;
+
+    private volatile boolean closed;
+
+
+    PinnedChannelPublisher(RabbitOperations rabbitOperations, int channels) {
+        if (channels < 1) {
+            throw new IllegalArgumentException("channels must be greater than 0");
+        }
+        this.rabbitOperations = rabbitOperations;
+        this.slots = new Slot[channels];
+        for (int i = 0; i < channels; i++) {
+            slots[i] = new Slot(i);
+        }
+    }
+
+
+    /**
+     * Runs the publication on the channel the key is pinned to.
+     *
+     * @param key the pinning key, messages without a key all go through the first channel.
+     * @param publication publishes the message with the operations bound to the channel, returning its
+     * acknowledgement.
+     * @return the acknowledgement of the publication.
+     */
+    CompletableFuture<Void> publish(@Nullable Object key,
+      Function<RabbitOperations, CompletableFuture<Void>> publication) {
+
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Publisher closed"));
+        }
+
+        Slot slot = slots[key == null ? 0 : Math.floorMod(key.hashCode(), slots.length)];
+        PublishTask task = new PublishTask(publication, new CompletableFuture<>());
+        slot.submit(task);
+        if (closed) {
+            // closed while submitting, the slot may not take the task anymore
+            slot.failQueuedTasks();
+        }
+        return task.acknowledgement;
+    }
+
+    int getOpenChannels() {
+        int open = 0;
+        for (Slot slot : slots) {
+            if (slot.thread != null) {
+                open++;
+            }
+        }
+        return open;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (Slot slot : slots) {
+            slot.close();
+        }
+    }
+
+    private final class Slot implements Runnable {
+
+        private final int index;
+        private final BlockingQueue<PublishTask> tasks = new LinkedBlockingQueue<>();
+
+        @Nullable private volatile Thread thread;
+        private long rebindBackoffMillis = MIN_REBIND_BACKOFF_MILLIS;
+
+        private Slot(int index) {
+            this.index = index;
+        }
+
+        private void submit(PublishTask task) {
+            tasks.add(task);
+            if (thread == null) {
+                start();
+            }
+        }
+
+        private synchronized void start() {
+            if (thread == null && !closed) {
+                Thread started = new Thread(this, "outbox-rabbit-channel-" + index);
+                started.setDaemon(true);
+                started.start();
+                thread = started;
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed) {
+                    try {
+                        rabbitOperations.invoke(operations -> {
+                            drain(operations);
+                            return null;
+                        });
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Channel {} failed, binding a new channel in {} ms..",
+                          index, rebindBackoffMillis, e);
+                        backOff();
+                    }
+                }
+            } finally {
+                failQueuedTasks();
+            }
+        }
+
+        /**
+         * Publishes the queued tasks until the publisher is closed. The slot thread is only interrupted by
+         * {@link #close()}, so an interrupt is consumed and the loop stops on the closed flag, rather than spinning
+         * with the flag left set.
+         */
+        private void drain(RabbitOperations operations) {
+            while (!closed) {
+                PublishTask task;
+                try {
+                    task = tasks.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    continue;
+                }
+                if (task != null) {
+                    task.run(operations);
+                    rebindBackoffMillis = MIN_REBIND_BACKOFF_MILLIS;
+                }
+            }
+        }
+
+        private void backOff() {
+            try {
+                Thread.sleep(rebindBackoffMillis);
+            } catch (InterruptedException e) {
+                // interrupted by close(), the loop stops on the closed flag
+            }
+            rebindBackoffMillis = Math.min(rebindBackoffMillis * 2, MAX_REBIND_BACKOFF_MILLIS);
+        }
+
+        private void close() {
+            Thread current = thread;
+            if (current != null) {
+                current.interrupt();
+            }
+            failQueuedTasks();
+        }
+
+        private void failQueuedTasks() {
+            PublishTask task;
+            while ((task = tasks.poll()) != null) {
+                task.acknowledgement.completeExceptionally(new IllegalStateException("Publisher closed"));
+            }
+        }
+    }
+
+    private record PublishTask(Function<RabbitOperations, CompletableFuture<Void>> publication,
+      CompletableFuture<Void> acknowledgement) {
+
+        private void run(RabbitOperations operations) {
+            try {
+                publication.apply(operations).whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        acknowledgement.completeExceptionally(throwable);
+                    } else {
+                        acknowledgement.complete(null);
+                    }
+                });
+            } catch (RuntimeException e) {
+                acknowledgement.completeExceptionally(e);
+                // unbinds the channel, which may be the culprit
+                throw e;
+            }
+        }
+    }
+}
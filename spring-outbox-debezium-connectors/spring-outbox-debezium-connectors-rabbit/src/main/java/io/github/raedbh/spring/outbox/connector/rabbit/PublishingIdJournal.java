@@ -0,0 +1,178 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.rabbit;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The publishing ids under which a named stream producer got outbox messages confirmed, persisted so that a message
+ * replayed after a restart is published again with the publishing id it was stored under, and dropped by the broker.
+ *
+ * <p>A message that was not confirmed is given a new publishing id each time it is published, greater than any given
+ * before. Reusing its former publishing id would get it dropped as a duplicate as soon as a later message is stored,
+ * which happens whenever messages are pipelined, so a message stored without its confirmation reaching the producer
+ * is published twice rather than lost.</p>
+ *
+ * <p>Each confirmation is appended to a file as an {@code <outbox id> <publishing id>} line. Only the latest
+ * {@code maxEntries} confirmations are kept, the file being rewritten without the oldest half once it holds more.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+final class PublishingIdJournal implements Closeable {
+
+    private final Path file;
+    private final int maxEntries;
+    private final LinkedHashMap<String, Long> publishingIds = new LinkedHashMap<>();
+
+    private long lastPublishingId;
+    private BufferedWriter writer;
+
+
+    PublishingIdJournal(Path file, int maxEntries) throws IOException {
+
+        if (maxEntries < 2) {
+            throw new IllegalArgumentException("maxEntries must be greater than 1");
+        }
+
+        this.file = file;
+        this.maxEntries = maxEntries;
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        if (Files.exists(file)) {
+            load();
+        }
+        // rewriting the loaded confirmations drops a line torn by a crash
+        rewrite();
+    }
+
+
+    private void load() throws IOException {
+
+        String content = Files.readString(file, UTF_8);
+        int end = content.lastIndexOf('\n');
+        if (end < 0) {
+            return;
+        }
+
+        for (String line : content.substring(0, end).split("\n")) {
+            int separator = line.lastIndexOf(' ');
+            if (separator > 0) {
+                try {
+                    put(line.substring(0, separator), Long.parseLong(line.substring(separator + 1)));
+                } catch (NumberFormatException e) {
+                    // not written by this journal, skipped
+                }
+            }
+        }
+    }
+
+    /**
+     * Raises the last publishing id given, typically to the last one stored by the broker for the producer.
+     */
+    synchronized void advanceTo(long publishingId) {
+        lastPublishingId = Math.max(lastPublishingId, publishingId);
+    }
+
+    /**
+     * Returns the publishing id the outbox message was confirmed under, or the next publishing id if it was never
+     * confirmed.
+     */
+    synchronized long publishingId(String outboxId) {
+
+        Long publishingId = publishingIds.get(outboxId);
+        if (publishingId != null) {
+            return publishingId;
+        }
+        return ++lastPublishingId;
+    }
+
+    /**
+     * Records that the broker confirmed the outbox message under the publishing id.
+     *
+     * @throws IOException if the confirmation could not be written, in which case the message is published again
+     * under a new publishing id if it is replayed after a restart.
+     */
+    synchronized void confirm(String outboxId, long publishingId) throws IOException {
+
+        if (Long.valueOf(publishingId).equals(publishingIds.get(outboxId))) {
+            return;
+        }
+
+        writer.write(outboxId + ' ' + publishingId + '\n');
+        writer.flush();
+        put(outboxId, publishingId);
+        if (publishingIds.size() > maxEntries) {
+            evictOldestHalf();
+            rewrite();
+        }
+    }
+
+    synchronized long getLastPublishingId() {
+        return lastPublishingId;
+    }
+
+    synchronized int size() {
+        return publishingIds.size();
+    }
+
+    private void put(String outboxId, long publishingId) {
+        publishingIds.put(outboxId, publishingId);
+        lastPublishingId = Math.max(lastPublishingId, publishingId);
+    }
+
+    private void evictOldestHalf() {
+        Iterator<Map.Entry<String, Long>> oldest = publishingIds.entrySet().iterator();
+        while (publishingIds.size() > maxEntries / 2) {
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    private void rewrite() throws IOException {
+
+        if (writer != null) {
+            writer.close();
+        }
+
+        Path rewritten = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(rewritten, UTF_8)) {
+            for (Map.Entry<String, Long> entry : publishingIds.entrySet()) {
+                out.write(entry.getKey() + ' ' + entry.getValue() + '\n');
+            }
+        }
+        Files.move(rewritten, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        writer = Files.newBufferedWriter(file, UTF_8, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -16,10 +16,11 @@
 
 package io.github.raedbh.spring.outbox.connector.rabbit;
 
-import org.springframework.lang.Nullable;
+import io.github.raedbh.spring.outbox.connector.OutboxMessageConfigValue;
 
 /**
  * @author Raed Ben Hamouda
  * @since 1.0
  */
-record RabbitMessageConfig(@Nullable String routingKey, @Nullable String exchange) {}
+record RabbitMessageConfig(OutboxMessageConfigValue routingKey, OutboxMessageConfigValue exchange,
+  OutboxMessageConfigValue stream) {}
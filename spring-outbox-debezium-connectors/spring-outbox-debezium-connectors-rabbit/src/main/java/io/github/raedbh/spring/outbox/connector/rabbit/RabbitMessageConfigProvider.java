@@ -20,6 +20,7 @@ import org.springframework.core.env.Environment;
 
 import io.github.raedbh.spring.outbox.connector.AbstractMessageConfigProvider;
 import io.github.raedbh.spring.outbox.connector.OutboxMessageConfigKeyResolver;
+import io.github.raedbh.spring.outbox.connector.OutboxMessageConfigValue;
 
 /**
  * Provides configuration for RabbitMQ integration based on outbox type.
@@ -42,7 +43,13 @@ class RabbitMessageConfigProvider extends AbstractMessageConfigProvider<RabbitMe
 
         String routingKey = environment.getProperty(keyResolver.resolve("routing-key"));
         String exchange = environment.getProperty(keyResolver.resolve("exchange"));
-
-        return new RabbitMessageConfig(routingKey, exchange);
+        String routingKeyExpression = environment.getProperty(keyResolver.resolve("routing-key-expression"));
+        String exchangeExpression = environment.getProperty(keyResolver.resolve("exchange-expression"));
+        String stream = environment.getProperty(keyResolver.resolve("stream"));
+        String streamExpression = environment.getProperty(keyResolver.resolve("stream-expression"));
+
+        return new RabbitMessageConfig(OutboxMessageConfigValue.of(routingKey, routingKeyExpression),
+          OutboxMessageConfigValue.of(exchange, exchangeExpression),
+          OutboxMessageConfigValue.of(stream, streamExpression));
     }
 }
@@ -18,13 +18,16 @@ package io.github.raedbh.spring.outbox.connector.rabbit;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.core.env.Environment;
+import org.springframework.lang.Nullable;
 
 import io.github.raedbh.spring.outbox.connector.OutboxData;
 import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
@@ -35,32 +38,111 @@ import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
  * @author Raed Ben Hamouda
  * @since 1.0
  */
-public class RabbitOutboxMessageProducer implements OutboxMessageProducer {
+public class RabbitOutboxMessageProducer implements OutboxMessageProducer, AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RabbitOutboxMessageProducer.class);
 
     private final RabbitOperations rabbitOperations;
     private final RabbitMessageConfigProvider configProvider;
+    private final OutboxRabbitProperties.ChannelPinning channelPinning;
+    @Nullable private final PinnedChannelPublisher channelPublisher;
 
 
     public RabbitOutboxMessageProducer(RabbitOperations rabbitOperations, Environment environment) {
+        this(rabbitOperations, environment, new OutboxRabbitProperties());
+    }
+
+    public RabbitOutboxMessageProducer(RabbitOperations rabbitOperations, Environment environment,
+      OutboxRabbitProperties properties) {
+
         this.rabbitOperations = rabbitOperations;
         this.configProvider = new RabbitMessageConfigProvider(environment);
+        this.channelPinning = properties.getChannelPinning();
+        this.channelPublisher = properties.getChannels() > 1
+          ? new PinnedChannelPublisher(rabbitOperations, properties.getChannels())
+          : null;
     }
 
 
     @Override
     public void produceMessage(OutboxData outboxData) {
+        RabbitMessageConfig config = configProvider.getConfig(outboxData.getType());
+        send(rabbitOperations, outboxData, config, null);
+    }
+
+    /**
+     * Publishes the outbox message, completing the returned future once RabbitMQ confirmed it when publisher confirms
+     * are enabled on the connection factory ({@code spring.rabbitmq.publisher-confirm-type=correlated}).
+     *
+     * <p>Messages are then published without waiting for each confirm: confirms are correlated to the messages by their
+     * outbox id as they arrive, possibly several at once, so a whole batch can be in flight on a channel. A negative
+     * confirm completes the future exceptionally for the message to be published again.</p>
+     *
+     * <p>Without publisher confirms, the message is published synchronously and the future completes right away.</p>
+     *
+     * <p>With more than one channel configured, the message is published on the channel its routing key, or its
+     * entity id, is pinned to.</p>
+     */
+    @Override
+    public CompletableFuture<Void> produceMessageAcknowledged(OutboxData outboxData) {
 
         RabbitMessageConfig config = configProvider.getConfig(outboxData.getType());
-        if (config.routingKey() == null) {
+        if (channelPublisher == null) {
+            return publish(rabbitOperations, outboxData, config);
+        }
+
+        Object pinningKey = channelPinning == OutboxRabbitProperties.ChannelPinning.ENTITY_ID
+          ? entityId(outboxData)
+          : config.routingKey().resolve(outboxData);
+        return channelPublisher.publish(pinningKey, operations -> publish(operations, outboxData, config));
+    }
+
+    private CompletableFuture<Void> publish(RabbitOperations operations, OutboxData outboxData,
+      RabbitMessageConfig config) {
+
+        if (!operations.getConnectionFactory().isPublisherConfirms()) {
+            try {
+                send(operations, outboxData, config, null);
+                return CompletableFuture.completedFuture(null);
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        CorrelationData correlationData = new CorrelationData(outboxData.getId());
+        try {
+            send(operations, outboxData, config, correlationData);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return correlationData.getFuture().thenApply(confirm -> {
+            if (!confirm.isAck()) {
+                throw new IllegalStateException("Message " + outboxData.getId() + " not confirmed by RabbitMQ: "
+                  + confirm.getReason());
+            }
+            if (correlationData.getReturned() != null) {
+                LOGGER.warn("Message {} confirmed but returned as unroutable: {}", outboxData.getId(),
+                  correlationData.getReturned().getReplyText());
+            }
+            return null;
+        });
+    }
+
+    private void send(RabbitOperations operations, OutboxData outboxData, RabbitMessageConfig config,
+      @Nullable CorrelationData correlationData) {
+
+        String routingKey = config.routingKey().resolve(outboxData);
+        String exchange = config.exchange().resolve(outboxData);
+
+        if (routingKey == null) {
             LOGGER.warn("No key found for {}", outboxData.getType());
             LOGGER.info("To specify a routing key, make sure the config follows: "
               + "spring.outbox.connector.rabbit.messages.<kebab-case-type>.routing-key "
               + "e.g. spring.outbox.connector.rabbit.messages.order-placed.routing-key for type=OrderPlaced");
         }
 
-        if (config.exchange() == null) {
+        if (exchange == null) {
             LOGGER.warn("No exchange found for {}", outboxData.getType());
         }
 
@@ -72,8 +154,32 @@ public class RabbitOutboxMessageProducer implements OutboxMessageProducer {
 
         Message message = new Message(outboxData.getPayload(), messageProperties);
 
-        rabbitOperations.send(config.exchange(), config.routingKey(), message);
+        if (correlationData == null) {
+            operations.send(exchange, routingKey, message);
+        } else {
+            operations.send(exchange, routingKey, message, correlationData);
+        }
+
+        LOGGER.info("Message sent to exchange '{}' with routing key '{}'.", exchange, routingKey);
+    }
+
+    /**
+     * Drops the loaded message configurations, so that exchanges and routing keys are read again from the environment.
+     */
+    public void reloadMessageConfigs() {
+        configProvider.reload();
+    }
+
+    @Override
+    public void close() {
+        if (channelPublisher != null) {
+            channelPublisher.close();
+        }
+    }
 
-        LOGGER.info("Message sent to exchange '{}' with routing key '{}'.", config.exchange(), config.routingKey());
+    @Nullable
+    private static Object entityId(OutboxData outboxData) {
+        Map<String, Object> metadata = outboxData.getMetadata();
+        return metadata != null ? metadata.get(OutboxData.EVENT_ENTITY_ID) : null;
     }
 }
@@ -0,0 +1,248 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.rabbit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+import com.rabbitmq.stream.Message;
+import com.rabbitmq.stream.MessageBuilder;
+import com.rabbitmq.stream.Producer;
+import com.rabbitmq.stream.ProducerBuilder;
+import com.rabbitmq.stream.compression.Compression;
+
+import io.github.raedbh.spring.outbox.connector.OutboxData;
+import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
+
+/**
+ * An {@link OutboxMessageProducer} for publishing outbox messages to RabbitMQ streams over the stream protocol.
+ *
+ * <p>Each outbox type is published to the stream configured by
+ * {@code spring.outbox.connector.rabbit.messages.<kebab-case-type>.stream} (or {@code stream-expression}), through one
+ * producer per stream. The outbox id is the AMQP {@code message-id} of the message and the metadata its application
+ * properties.</p>
+ *
+ * <p>With deduplication, the publishing id under which each outbox message got confirmed is persisted in a
+ * {@link PublishingIdJournal} per stream, so that a confirmed message published again, replayed after a restart,
+ * carries the same publishing id and is dropped by the broker. A message that was not confirmed is published under a
+ * new publishing id, and is stored twice if it had actually been stored. Publishing ids are given and sent under the
+ * same lock, so that they reach the broker in increasing order whatever the number of delivery lanes.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+public class RabbitStreamOutboxMessageProducer implements OutboxMessageProducer, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RabbitStreamOutboxMessageProducer.class);
+
+    private final com.rabbitmq.stream.Environment streamEnvironment;
+    private final RabbitMessageConfigProvider configProvider;
+    private final OutboxRabbitStreamProperties properties;
+    private final Map<String, StreamPublisher> publishers = new ConcurrentHashMap<>();
+
+
+    public RabbitStreamOutboxMessageProducer(com.rabbitmq.stream.Environment streamEnvironment,
+      org.springframework.core.env.Environment environment, OutboxRabbitStreamProperties properties) {
+
+        if (properties.isDeduplication() && properties.getProducerName() == null) {
+            throw new IllegalArgumentException("producerName must not be null when deduplication is enabled");
+        }
+        if (properties.isDeduplication() && properties.getPublishingIdDirectory() == null) {
+            throw new IllegalArgumentException("publishingIdDirectory must not be null when deduplication is enabled");
+        }
+        if (properties.isDeduplication() && properties.getSubEntrySize() > 1) {
+            throw new IllegalArgumentException("Deduplication is not guaranteed with sub-entry batching, "
+              + "subEntrySize must be 1 when deduplication is enabled");
+        }
+
+        this.streamEnvironment = streamEnvironment;
+        this.configProvider = new RabbitMessageConfigProvider(environment);
+        this.properties = properties;
+    }
+
+
+    @Override
+    public void produceMessage(OutboxData outboxData) {
+        produceMessageAcknowledged(outboxData).join();
+    }
+
+    /**
+     * Publishes the outbox message, completing the returned future once the broker confirmed it was stored.
+     * Messages skipped for lack of a stream complete right away.
+     */
+    @Override
+    public CompletableFuture<Void> produceMessageAcknowledged(OutboxData outboxData) {
+
+        RabbitMessageConfig config = configProvider.getConfig(outboxData.getType());
+        String stream = config.stream().resolve(outboxData);
+
+        if (stream == null) {
+            LOGGER.warn("No stream configured for {}", outboxData.getType());
+            LOGGER.info("To specify a stream, make sure the config follows: "
+              + "spring.outbox.connector.rabbit.messages.<kebab-case-type>.stream "
+              + "e.g. spring.outbox.connector.rabbit.messages.order-placed.stream for type=OrderPlaced");
+
+            LOGGER.warn("Message delivery skipped for type: {}", outboxData.getType());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return publishers.computeIfAbsent(stream, this::newPublisher).publish(outboxData);
+    }
+
+    /**
+     * Drops the loaded message configurations, so that streams are read again from the environment.
+     */
+    public void reloadMessageConfigs() {
+        configProvider.reload();
+    }
+
+    @Override
+    public void close() {
+        publishers.values().forEach(StreamPublisher::close);
+        publishers.clear();
+    }
+
+    private StreamPublisher newPublisher(String stream) {
+
+        ProducerBuilder builder = streamEnvironment.producerBuilder()
+          .stream(stream)
+          .batchSize(properties.getBatchSize())
+          .subEntrySize(properties.getSubEntrySize());
+        if (properties.getSubEntrySize() > 1 && properties.getCompression() != Compression.NONE) {
+            builder.compression(properties.getCompression());
+        }
+        if (properties.getProducerName() != null) {
+            builder.name(properties.getProducerName());
+        }
+
+        Producer producer = builder.build();
+        PublishingIdJournal journal = null;
+        if (properties.isDeduplication()) {
+            journal = openJournal(stream);
+            journal.advanceTo(producer.getLastPublishingId());
+        }
+
+        LOGGER.info("Created producer for stream '{}' [deduplication: {}] [last publishing id: {}]",
+          stream, properties.isDeduplication(), journal != null ? journal.getLastPublishingId() : 0);
+
+        return new StreamPublisher(stream, producer, journal);
+    }
+
+    private PublishingIdJournal openJournal(String stream) {
+
+        String fileName = (properties.getProducerName() + "-" + stream).replaceAll("[^A-Za-z0-9._-]", "_") + ".ids";
+        Path file = Path.of(properties.getPublishingIdDirectory(), fileName);
+        try {
+            return new PublishingIdJournal(file, properties.getMaxPublishingIds());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open the publishing id journal " + file, e);
+        }
+    }
+
+    private final class StreamPublisher {
+
+        private final String stream;
+        private final Producer producer;
+        @Nullable private final PublishingIdJournal journal;
+
+        private StreamPublisher(String stream, Producer producer, @Nullable PublishingIdJournal journal) {
+            this.stream = stream;
+            this.producer = producer;
+            this.journal = journal;
+        }
+
+        private CompletableFuture<Void> publish(OutboxData outboxData) {
+
+            if (journal == null) {
+                return send(producer.messageBuilder(), outboxData);
+            }
+
+            synchronized (this) {
+                // a publishing id lower than one already sent would get the message dropped as a duplicate
+                long publishingId = journal.publishingId(outboxData.getId());
+                return send(producer.messageBuilder().publishingId(publishingId), outboxData)
+                  .thenRun(() -> confirm(outboxData, publishingId));
+            }
+        }
+
+        private CompletableFuture<Void> send(MessageBuilder messageBuilder, OutboxData outboxData) {
+
+            MessageBuilder.ApplicationPropertiesBuilder applicationProperties = messageBuilder
+              .properties().messageId(outboxData.getId()).messageBuilder()
+              .applicationProperties();
+            if (outboxData.getMetadata() != null) {
+                outboxData.getMetadata().forEach((key, value) -> {
+                    if (value != null) {
+                        applicationProperties.entry(key, value.toString());
+                    }
+                });
+            }
+            applicationProperties.entry(OutboxData.OUTBOX_ID, outboxData.getId());
+
+            Message message = applicationProperties.messageBuilder()
+              .addData(outboxData.getPayload())
+              .build();
+
+            CompletableFuture<Void> acknowledgement = new CompletableFuture<>();
+            try {
+                producer.send(message, status -> {
+                    if (status.isConfirmed()) {
+                        LOGGER.debug("Message {} stored in stream '{}'", outboxData.getId(), stream);
+                        acknowledgement.complete(null);
+                    } else {
+                        LOGGER.error("Failed to publish message {} to stream '{}'. Code: {}",
+                          outboxData.getId(), stream, status.getCode());
+                        acknowledgement.completeExceptionally(new IllegalStateException(
+                          "Message " + outboxData.getId() + " not confirmed, code " + status.getCode()));
+                    }
+                });
+            } catch (RuntimeException e) {
+                acknowledgement.completeExceptionally(e);
+            }
+            return acknowledgement;
+        }
+
+        private void confirm(OutboxData outboxData, long publishingId) {
+            try {
+                journal.confirm(outboxData.getId(), publishingId);
+            } catch (IOException e) {
+                // at worst, the message is stored again if replayed after a restart
+                LOGGER.warn("Failed to record the publishing id of message {} in stream '{}': {}",
+                  outboxData.getId(), stream, e.getMessage());
+            }
+        }
+
+        private void close() {
+            producer.close();
+            if (journal != null) {
+                try {
+                    journal.close();
+                } catch (IOException e) {
+                    LOGGER.warn("Failed to close the publishing id journal of stream '{}': {}", stream, e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -22,6 +22,8 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
+import com.rabbitmq.stream.Environment;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -39,4 +41,31 @@ class OutboxRabbitAutoConfigurationTests {
           .withBean(RabbitTemplate.class, () -> Mockito.mock(RabbitTemplate.class))
           .run(context -> assertThat(context).hasSingleBean(RabbitOutboxMessageProducer.class));
     }
+
+    @Test
+    void autoConfigureStreamProducer() {
+        new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(OutboxRabbitStreamAutoConfiguration.class,
+            OutboxRabbitAutoConfiguration.class))
+          .withBean(RabbitTemplate.class, () -> Mockito.mock(RabbitTemplate.class))
+          .withBean("rabbitStreamEnvironment", Environment.class, () -> Mockito.mock(Environment.class))
+          .withPropertyValues("spring.outbox.connector.rabbit.stream.enabled=true")
+          .run(context -> {
+              assertThat(context).hasSingleBean(RabbitStreamOutboxMessageProducer.class);
+              assertThat(context).doesNotHaveBean(RabbitOutboxMessageProducer.class);
+          });
+    }
+
+    @Test
+    void allowStreamDeduplicationWithParallelLanes() {
+        new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(OutboxRabbitStreamAutoConfiguration.class))
+          .withBean("rabbitStreamEnvironment", Environment.class, () -> Mockito.mock(Environment.class))
+          .withPropertyValues("spring.outbox.connector.rabbit.stream.enabled=true",
+            "spring.outbox.connector.rabbit.stream.deduplication=true",
+            "spring.outbox.connector.rabbit.stream.producer-name=outbox",
+            "spring.outbox.connector.rabbit.stream.publishing-id-directory=target/publishing-ids",
+            "spring.outbox.connector.delivery.lanes=4")
+          .run(context -> assertThat(context).hasSingleBean(RabbitStreamOutboxMessageProducer.class));
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ *  Copyright 2024 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.rabbit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link PinnedChannelPublisher}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class PinnedChannelPublisherTests {
+
+    @Mock RabbitOperations rabbitOperations;
+
+    PinnedChannelPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new PinnedChannelPublisher(rabbitOperations, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.close();
+    }
+
+    @Test
+    void refuseNonPositiveChannelCount() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new PinnedChannelPublisher(rabbitOperations, 0));
+    }
+
+    @Test
+    void publishSameKeyInOrderOnOneChannel() {
+
+        givenBoundChannels();
+
+        List<Integer> published = new CopyOnWriteArrayList<>();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CompletableFuture<?>[] acknowledgements = new CompletableFuture<?>[10];
+        for (int i = 0; i < acknowledgements.length; i++) {
+            int sequence = i;
+            acknowledgements[i] = publisher.publish("order-1", operations -> {
+                published.add(sequence);
+                threads.add(Thread.currentThread().getName());
+                return CompletableFuture.completedFuture(null);
+            });
+        }
+
+        assertThat(CompletableFuture.allOf(acknowledgements)).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(published).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(threads).hasSize(1);
+        assertThat(publisher.getOpenChannels()).isEqualTo(1);
+    }
+
+    @Test
+    void openChannelsAsKeysSpread() {
+
+        givenBoundChannels();
+
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CompletableFuture<?>[] acknowledgements = new CompletableFuture<?>[4];
+        for (int i = 0; i < acknowledgements.length; i++) {
+            acknowledgements[i] = publisher.publish(i, operations -> {
+                threads.add(Thread.currentThread().getName());
+                return CompletableFuture.completedFuture(null);
+            });
+        }
+
+        assertThat(CompletableFuture.allOf(acknowledgements)).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(threads).hasSize(4);
+        assertThat(publisher.getOpenChannels()).isEqualTo(4);
+    }
+
+    @Test
+    void bindNewChannelAfterFailedPublication() {
+
+        givenBoundChannels();
+
+        CompletableFuture<Void> failed = publisher.publish("order-1", operations -> {
+            throw new AmqpException("channel closed");
+        });
+        CompletableFuture<Void> next = publisher.publish("order-1",
+          operations -> CompletableFuture.completedFuture(null));
+
+        assertThat(failed).failsWithin(Duration.ofSeconds(5));
+        assertThat(next).succeedsWithin(Duration.ofSeconds(5));
+        verify(rabbitOperations, atLeast(2)).invoke(any());
+    }
+
+    @Test
+    void backOffWhileChannelCannotBeBound() throws Exception {
+
+        given(rabbitOperations.invoke(any())).willThrow(new AmqpException("connection refused"));
+
+        publisher.publish("order-1", operations -> CompletableFuture.completedFuture(null));
+        Thread.sleep(500);
+
+        verify(rabbitOperations, atMost(5)).invoke(any());
+    }
+
+    @Test
+    void failQueuedPublicationsOnClose() {
+
+        givenBoundChannels();
+
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        publisher.publish("order-1", operations -> {
+            started.complete(null);
+            release.join();
+            return CompletableFuture.completedFuture(null);
+        });
+        assertThat(started).succeedsWithin(Duration.ofSeconds(5));
+
+        CompletableFuture<Void> queued = publisher.publish("order-1",
+          operations -> CompletableFuture.completedFuture(null));
+        publisher.close();
+
+        assertThat(queued).failsWithin(Duration.ofSeconds(5));
+        release.complete(null);
+    }
+
+    @Test
+    void failPublicationsOnceClosed() {
+
+        publisher.close();
+
+        assertThat(publisher.publish("order-1", operations -> CompletableFuture.completedFuture(null)))
+          .isCompletedExceptionally();
+    }
+
+    private void givenBoundChannels() {
+        given(rabbitOperations.invoke(any())).willAnswer(invocation ->
+          invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitOperations));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.rabbit;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PublishingIdJournal}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class PublishingIdJournalTests {
+
+    @TempDir Path directory;
+
+    @Test
+    void keepConfirmedPublishingIdsAcrossReopening() throws Exception {
+
+        Path file = directory.resolve("outbox-orders.ids");
+        try (PublishingIdJournal journal = new PublishingIdJournal(file, 10)) {
+            journal.advanceTo(41);
+            assertThat(journal.publishingId("1a2b3c")).isEqualTo(42);
+            assertThat(journal.publishingId("4d5e6f")).isEqualTo(43);
+            journal.confirm("4d5e6f", 43);
+            assertThat(journal.publishingId("4d5e6f")).isEqualTo(43);
+        }
+
+        try (PublishingIdJournal journal = new PublishingIdJournal(file, 10)) {
+            assertThat(journal.getLastPublishingId()).isEqualTo(43);
+            assertThat(journal.publishingId("4d5e6f")).isEqualTo(43);
+            assertThat(journal.publishingId("7a8b9c")).isEqualTo(44);
+        }
+    }
+
+    @Test
+    void giveNewPublishingIdToMessageNotConfirmed() throws Exception {
+
+        try (PublishingIdJournal journal = new PublishingIdJournal(directory.resolve("outbox-orders.ids"), 10)) {
+            assertThat(journal.publishingId("1a2b3c")).isEqualTo(1);
+            assertThat(journal.publishingId("4d5e6f")).isEqualTo(2);
+            journal.confirm("4d5e6f", 2);
+
+            assertThat(journal.publishingId("1a2b3c")).isEqualTo(3);
+            assertThat(journal.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void dropLineTornByCrash() throws Exception {
+
+        Path file = directory.resolve("outbox-orders.ids");
+        Files.writeString(file, "1a2b3c 42\n4d5e6f 4", UTF_8);
+
+        try (PublishingIdJournal journal = new PublishingIdJournal(file, 10)) {
+            assertThat(journal.size()).isEqualTo(1);
+            assertThat(journal.publishingId("4d5e6f")).isEqualTo(43);
+            journal.confirm("4d5e6f", 43);
+        }
+        assertThat(Files.readString(file, UTF_8)).isEqualTo("1a2b3c 42\n4d5e6f 43\n");
+    }
+
+    @Test
+    void evictOldestPublishingIdsBeyondMaxEntries() throws Exception {
+
+        Path file = directory.resolve("outbox-orders.ids");
+        try (PublishingIdJournal journal = new PublishingIdJournal(file, 4)) {
+            for (int i = 1; i <= 5; i++) {
+                journal.confirm("id-" + i, journal.publishingId("id-" + i));
+            }
+
+            assertThat(journal.size()).isEqualTo(2);
+            assertThat(journal.publishingId("id-5")).isEqualTo(5);
+            assertThat(journal.publishingId("id-1")).isEqualTo(6);
+        }
+        assertThat(Files.readAllLines(file, UTF_8)).containsExactly("id-4 4", "id-5 5");
+    }
+}
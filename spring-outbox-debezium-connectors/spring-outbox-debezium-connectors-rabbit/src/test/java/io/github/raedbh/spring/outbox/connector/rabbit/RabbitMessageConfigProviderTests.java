@@ -16,6 +16,8 @@
 
 package io.github.raedbh.spring.outbox.connector.rabbit;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +25,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.env.Environment;
 
+import io.github.raedbh.spring.outbox.connector.OutboxData;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -58,8 +62,24 @@ class RabbitMessageConfigProviderTests {
         RabbitMessageConfig rabbitMessageConfig = configProvider.loadConfig("OrderCreated");
 
         assertThat(rabbitMessageConfig).isNotNull();
-        assertThat(rabbitMessageConfig.routingKey()).isEqualTo(routingKey);
-        assertThat(rabbitMessageConfig.exchange()).isEqualTo(exchange);
+        assertThat(rabbitMessageConfig.routingKey().getValue()).isEqualTo(routingKey);
+        assertThat(rabbitMessageConfig.exchange().getValue()).isEqualTo(exchange);
+    }
+
+    @Test
+    void loadExpressionConfig() {
+
+        Map<String, String> properties = Map.of(
+          "spring.outbox.connector.rabbit.messages.order-created.routing-key-expression", "metadata['operation']",
+          "spring.outbox.connector.rabbit.messages.order-created.exchange-expression", "'orders.' + type");
+        given(environment.getProperty(anyString()))
+          .willAnswer(invocation -> properties.get(invocation.<String>getArgument(0)));
+
+        RabbitMessageConfig rabbitMessageConfig = configProvider.loadConfig("OrderCreated");
+
+        OutboxData outboxData = new OutboxData("1a2b3c", "OrderCreated", new byte[]{1}, Map.of("operation", "create"));
+        assertThat(rabbitMessageConfig.routingKey().resolve(outboxData)).isEqualTo("create");
+        assertThat(rabbitMessageConfig.exchange().resolve(outboxData)).isEqualTo("orders.OrderCreated");
     }
 
     @Test
@@ -70,7 +90,7 @@ class RabbitMessageConfigProviderTests {
         RabbitMessageConfig messageConfig = configProvider.loadConfig("OrderCancelled");
 
         assertThat(messageConfig).isNotNull();
-        assertThat(messageConfig.routingKey()).isNull();
-        assertThat(messageConfig.exchange()).isNull();
+        assertThat(messageConfig.routingKey().isDefined()).isFalse();
+        assertThat(messageConfig.exchange().isDefined()).isFalse();
     }
 }
@@ -16,16 +16,24 @@
 
 package io.github.raedbh.spring.outbox.connector.rabbit;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.core.env.Environment;
 
@@ -35,6 +43,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -48,13 +57,15 @@ class RabbitOutboxMessageProducerTests {
 
     @Mock RabbitTemplate rabbitTemplate;
     @Mock Environment env;
+    @Mock ConnectionFactory connectionFactory;
 
-    @InjectMocks RabbitOutboxMessageProducer producer;
+    RabbitOutboxMessageProducer producer;
 
     OutboxData outboxData;
 
     @BeforeEach
     void setUp() {
+        producer = new RabbitOutboxMessageProducer(rabbitTemplate, env);
         outboxData = new OutboxData("1a2b3c", "OrderPlaced", "TestPayload".getBytes(),
           Map.of("key1", "value1", "key2", "value2"));
     }
@@ -109,4 +120,83 @@ class RabbitOutboxMessageProducerTests {
             "key2", "value2",
             "outbox_id", "1a2b3c"));
     }
+
+    @Test
+    void acknowledgeRightAwayWithoutPublisherConfirms() {
+
+        given(rabbitTemplate.getConnectionFactory()).willReturn(connectionFactory);
+
+        CompletableFuture<Void> acknowledgement = producer.produceMessageAcknowledged(outboxData);
+
+        verify(rabbitTemplate).send(any(), any(), any(Message.class));
+        assertThat(acknowledgement).isCompleted().isNotCompletedExceptionally();
+    }
+
+    @Test
+    void acknowledgeOnPublisherConfirm() {
+
+        given(rabbitTemplate.getConnectionFactory()).willReturn(connectionFactory);
+        given(connectionFactory.isPublisherConfirms()).willReturn(true);
+
+        CompletableFuture<Void> acknowledgement = producer.produceMessageAcknowledged(outboxData);
+
+        ArgumentCaptor<CorrelationData> correlationCaptor = ArgumentCaptor.forClass(CorrelationData.class);
+        verify(rabbitTemplate).send(any(), any(), any(Message.class), correlationCaptor.capture());
+
+        CorrelationData correlationData = correlationCaptor.getValue();
+        assertThat(correlationData.getId()).isEqualTo("1a2b3c");
+        assertThat(acknowledgement).isNotDone();
+
+        correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        assertThat(acknowledgement).isCompleted().isNotCompletedExceptionally();
+    }
+
+    @Test
+    void failAcknowledgementOnNegativeConfirm() {
+
+        given(rabbitTemplate.getConnectionFactory()).willReturn(connectionFactory);
+        given(connectionFactory.isPublisherConfirms()).willReturn(true);
+
+        CompletableFuture<Void> acknowledgement = producer.produceMessageAcknowledged(outboxData);
+
+        ArgumentCaptor<CorrelationData> correlationCaptor = ArgumentCaptor.forClass(CorrelationData.class);
+        verify(rabbitTemplate).send(any(), any(), any(Message.class), correlationCaptor.capture());
+
+        correlationCaptor.getValue().getFuture().complete(new CorrelationData.Confirm(false, "channel closed"));
+
+        assertThat(acknowledgement).isCompletedExceptionally();
+    }
+
+    @Test
+    void publishOnPinnedChannels() {
+
+        OutboxRabbitProperties properties = new OutboxRabbitProperties();
+        properties.setChannels(4);
+        properties.setChannelPinning(OutboxRabbitProperties.ChannelPinning.ENTITY_ID);
+
+        given(rabbitTemplate.invoke(any())).willAnswer(invocation ->
+          invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitTemplate));
+        given(rabbitTemplate.getConnectionFactory()).willReturn(connectionFactory);
+
+        List<String> publishingThreads = new CopyOnWriteArrayList<>();
+        willAnswer(invocation -> publishingThreads.add(Thread.currentThread().getName()))
+          .given(rabbitTemplate).send(any(), any(), any(Message.class));
+
+        try (RabbitOutboxMessageProducer pinnedProducer = new RabbitOutboxMessageProducer(rabbitTemplate, env,
+          properties)) {
+
+            List<CompletableFuture<Void>> acknowledgements = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                acknowledgements.add(pinnedProducer.produceMessageAcknowledged(new OutboxData("id-" + i,
+                  "OrderPlaced", "TestPayload".getBytes(), Map.of("event_entity_id", "order-1"))));
+            }
+
+            assertThat(CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new)))
+              .succeedsWithin(Duration.ofSeconds(5));
+        }
+
+        assertThat(publishingThreads).hasSize(3).allMatch(thread -> thread.startsWith("outbox-rabbit-channel-"));
+        assertThat(Set.copyOf(publishingThreads)).hasSize(1);
+    }
 }
@@ -0,0 +1,275 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.connector.rabbit;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+
+import com.rabbitmq.stream.ConfirmationHandler;
+import com.rabbitmq.stream.ConfirmationStatus;
+import com.rabbitmq.stream.Message;
+import com.rabbitmq.stream.Producer;
+import com.rabbitmq.stream.ProducerBuilder;
+import com.rabbitmq.stream.codec.WrapperMessageBuilder;
+
+import io.github.raedbh.spring.outbox.connector.OutboxData;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link RabbitStreamOutboxMessageProducer}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class RabbitStreamOutboxMessageProducerTests {
+
+    @Mock com.rabbitmq.stream.Environment streamEnvironment;
+    @Mock ProducerBuilder producerBuilder;
+    @Mock Producer streamProducer;
+    @Mock Environment env;
+
+    @TempDir Path directory;
+
+    OutboxRabbitStreamProperties properties;
+    OutboxData outboxData;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxRabbitStreamProperties();
+        outboxData = new OutboxData("1a2b3c", "OrderPlaced", "TestPayload".getBytes(), Map.of("key1", "value1"));
+    }
+
+    @Test
+    void messagePublishedToConfiguredStream() {
+
+        givenStream("orders");
+        givenProducer();
+
+        CompletableFuture<Void> acknowledgement = newProducer().produceMessageAcknowledged(outboxData);
+
+        verify(producerBuilder).stream("orders");
+        verify(producerBuilder, never()).name(anyString());
+        Message message = confirm(true).get(0);
+        assertThat(message.getProperties().getMessageId()).isEqualTo("1a2b3c");
+        assertThat(message.getApplicationProperties())
+          .containsEntry("key1", "value1")
+          .containsEntry(OutboxData.OUTBOX_ID, "1a2b3c");
+        assertThat(message.getBodyAsBinary()).isEqualTo("TestPayload".getBytes());
+        assertThat(acknowledgement).isCompleted();
+    }
+
+    @Test
+    void acknowledgementFailsWhenMessageNotConfirmed() {
+
+        givenStream("orders");
+        givenProducer();
+
+        CompletableFuture<Void> acknowledgement = newProducer().produceMessageAcknowledged(outboxData);
+        confirm(false);
+
+        assertThat(acknowledgement).isCompletedExceptionally();
+    }
+
+    @Test
+    void messageSkippedWithoutStream() {
+
+        CompletableFuture<Void> acknowledgement = newProducer().produceMessageAcknowledged(outboxData);
+
+        assertThat(acknowledgement).isCompleted();
+        verify(streamEnvironment, never()).producerBuilder();
+    }
+
+    @Test
+    void producerReusedForSameStream() {
+
+        givenStream("orders");
+        givenProducer();
+
+        RabbitStreamOutboxMessageProducer producer = newProducer();
+        producer.produceMessageAcknowledged(outboxData);
+        producer.produceMessageAcknowledged(new OutboxData("4d5e6f", "OrderPlaced", new byte[]{1}));
+        producer.close();
+
+        verify(streamEnvironment).producerBuilder();
+        verify(streamProducer).close();
+    }
+
+    @Test
+    void publishingIdKeptForConfirmedOutboxIdWithDeduplication() {
+
+        givenDeduplication();
+        givenStream("orders");
+        givenProducer();
+        given(streamProducer.getLastPublishingId()).willReturn(41L);
+
+        RabbitStreamOutboxMessageProducer producer = newProducer();
+        producer.produceMessageAcknowledged(outboxData);
+        producer.produceMessageAcknowledged(new OutboxData("4d5e6f", "OrderPlaced", new byte[]{1}));
+
+        verify(producerBuilder).name("outbox");
+        List<Message> messages = confirm(true);
+        assertThat(messages).extracting(Message::getPublishingId).containsExactly(42L, 43L);
+
+        producer.produceMessageAcknowledged(outboxData);
+
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(streamProducer, times(3)).send(captor.capture(), any());
+        assertThat(captor.getValue().getPublishingId()).isEqualTo(42L);
+    }
+
+    @Test
+    void newPublishingIdForMessageNackedInTheMiddleOfBatch() {
+
+        givenDeduplication();
+        givenStream("orders");
+        givenProducer();
+
+        RabbitStreamOutboxMessageProducer producer = newProducer();
+        List<OutboxData> batch = List.of(outboxData, new OutboxData("4d5e6f", "OrderPlaced", new byte[]{1}),
+          new OutboxData("7a8b9c", "OrderPlaced", new byte[]{2}));
+        List<CompletableFuture<Void>> acknowledgements = batch.stream()
+          .map(producer::produceMessageAcknowledged)
+          .toList();
+
+        ArgumentCaptor<Message> messages = ArgumentCaptor.forClass(Message.class);
+        ArgumentCaptor<ConfirmationHandler> handlers = ArgumentCaptor.forClass(ConfirmationHandler.class);
+        verify(streamProducer, times(3)).send(messages.capture(), handlers.capture());
+        boolean[] confirmed = {true, false, true};
+        for (int i = 0; i < confirmed.length; i++) {
+            handlers.getAllValues().get(i).handle(new ConfirmationStatus(messages.getAllValues().get(i), confirmed[i],
+              (short) (confirmed[i] ? 1 : 6)));
+        }
+        assertThat(acknowledgements.get(1)).isCompletedExceptionally();
+
+        // the nacked message is sent again along with the following ones
+        batch.subList(1, 3).forEach(producer::produceMessageAcknowledged);
+
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(streamProducer, times(5)).send(captor.capture(), any());
+        assertThat(captor.getAllValues()).extracting(Message::getPublishingId).containsExactly(1L, 2L, 3L, 4L, 3L);
+    }
+
+    @Test
+    void publishingIdReusedForConfirmedMessageReplayedAfterRestart() {
+
+        givenDeduplication();
+        givenStream("orders");
+        givenProducer();
+        given(streamProducer.getLastPublishingId()).willReturn(0L, 42L);
+
+        RabbitStreamOutboxMessageProducer producer = newProducer();
+        producer.produceMessageAcknowledged(outboxData);
+        producer.produceMessageAcknowledged(new OutboxData("4d5e6f", "OrderPlaced", new byte[]{1}));
+        confirm(true);
+        producer.close();
+
+        RabbitStreamOutboxMessageProducer restarted = newProducer();
+        restarted.produceMessageAcknowledged(new OutboxData("4d5e6f", "OrderPlaced", new byte[]{1}));
+        restarted.produceMessageAcknowledged(new OutboxData("7a8b9c", "OrderPlaced", new byte[]{2}));
+        restarted.close();
+
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(streamProducer, times(4)).send(captor.capture(), any());
+        assertThat(captor.getAllValues()).extracting(Message::getPublishingId).containsExactly(1L, 2L, 2L, 43L);
+    }
+
+    @Test
+    void rejectDeduplicationWithoutProducerName() {
+
+        givenDeduplication();
+        properties.setProducerName(null);
+
+        assertThatIllegalArgumentException().isThrownBy(this::newProducer);
+    }
+
+    @Test
+    void rejectDeduplicationWithoutPublishingIdDirectory() {
+
+        givenDeduplication();
+        properties.setPublishingIdDirectory(null);
+
+        assertThatIllegalArgumentException().isThrownBy(this::newProducer);
+    }
+
+    @Test
+    void rejectDeduplicationWithSubEntryBatching() {
+
+        givenDeduplication();
+        properties.setSubEntrySize(10);
+
+        assertThatIllegalArgumentException().isThrownBy(this::newProducer);
+    }
+
+    private RabbitStreamOutboxMessageProducer newProducer() {
+        return new RabbitStreamOutboxMessageProducer(streamEnvironment, env, properties);
+    }
+
+    private void givenDeduplication() {
+        properties.setDeduplication(true);
+        properties.setProducerName("outbox");
+        properties.setPublishingIdDirectory(directory.toString());
+    }
+
+    private void givenStream(String stream) {
+        given(env.getProperty(anyString()))
+          .willAnswer(invocation -> invocation.getArgument(0).toString().endsWith(".stream") ? stream : null);
+    }
+
+    private void givenProducer() {
+        given(streamEnvironment.producerBuilder()).willReturn(producerBuilder);
+        given(producerBuilder.stream(anyString())).willReturn(producerBuilder);
+        given(producerBuilder.batchSize(anyInt())).willReturn(producerBuilder);
+        given(producerBuilder.subEntrySize(anyInt())).willReturn(producerBuilder);
+        given(producerBuilder.build()).willReturn(streamProducer);
+        given(streamProducer.messageBuilder()).willAnswer(invocation -> new WrapperMessageBuilder());
+    }
+
+    private List<Message> confirm(boolean confirmed) {
+
+        ArgumentCaptor<Message> messages = ArgumentCaptor.forClass(Message.class);
+        ArgumentCaptor<ConfirmationHandler> handlers = ArgumentCaptor.forClass(ConfirmationHandler.class);
+        verify(streamProducer, atLeastOnce()).send(messages.capture(), handlers.capture());
+
+        for (int i = 0; i < messages.getAllValues().size(); i++) {
+            handlers.getAllValues().get(i)
+              .handle(new ConfirmationStatus(messages.getAllValues().get(i), confirmed, (short) (confirmed ? 1 : 6)));
+        }
+        return messages.getAllValues();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright 2024 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.github.raedbh.spring.outbox.core.OutboxPurger;
+
+/**
+ * JDBC implementation of {@link OutboxPurger}, deleting the oldest outbox rows through the {@code created_at} index.
+ *
+ * <p>Each batch is a single auto-committed statement outside of any application transaction, so row locks are held
+ * only for the duration of that batch.</p>
+ *
+ * <p>The cutoff is computed from the clock of the JVM and bound as a {@link Timestamp}, the way the outbox
+ * repositories bind {@code created_at} on insert, so that both go through the same time zone conversion of the
+ * driver.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class JdbcOutboxPurger implements OutboxPurger {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String deleteStatement;
+
+    JdbcOutboxPurger(OutboxSchemaAwareExecution outboxSchemaAwareExecution) {
+        this.jdbcTemplate = new JdbcTemplate(outboxSchemaAwareExecution.dataSource());
+        this.deleteStatement = deleteStatement(outboxSchemaAwareExecution.rdbms(),
+          outboxSchemaAwareExecution.outboxTable());
+    }
+
+    @Override
+    public int purge(Duration maxAge, int limit) {
+        // created_at values are written in the JVM time zone
+        Timestamp createdBefore = Timestamp.from(Instant.now().minus(maxAge));
+        return jdbcTemplate.update(deleteStatement, createdBefore, limit);
+    }
+
+    private static String deleteStatement(String rdbms, String outboxTable) {
+        if (rdbms.equals("MySQL")) {
+            // MySQL does not support LIMIT in IN subqueries, but does on single-table deletes
+            return "DELETE FROM " + outboxTable + " WHERE created_at < ? ORDER BY created_at LIMIT ?";
+        }
+        return "DELETE FROM " + outboxTable + " WHERE id IN (SELECT id FROM " + outboxTable
+          + " WHERE created_at < ? ORDER BY created_at LIMIT ?)";
+    }
+}
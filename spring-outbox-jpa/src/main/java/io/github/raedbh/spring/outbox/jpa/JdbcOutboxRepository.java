@@ -0,0 +1,162 @@
+/*
+ *  Copyright 2024 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.github.raedbh.spring.outbox.core.OutboxEntry;
+import io.github.raedbh.spring.outbox.core.OutboxRepository;
+
+/**
+ * JDBC implementation of {@link OutboxRepository}, inserting outbox rows as a single JDBC batch on the
+ * transaction-bound connection.
+ *
+ * <p>Unlike {@link JpaOutboxRepository}, rows never enter the persistence context, so they are neither dirty-checked
+ * at flush time nor retained in memory until the end of the transaction.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class JdbcOutboxRepository implements OutboxRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String rdbms;
+    private final String insertStatement;
+    private final String deleteStatement;
+    private final OutboxIdGenerator idGenerator;
+
+    JdbcOutboxRepository(OutboxSchemaAwareExecution outboxSchemaAwareExecution, OutboxIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+        this.jdbcTemplate = new JdbcTemplate(outboxSchemaAwareExecution.dataSource());
+        this.rdbms = outboxSchemaAwareExecution.rdbms();
+        this.insertStatement = "INSERT INTO " + outboxSchemaAwareExecution.outboxTable()
+          + " (id, type, payload, metadata, created_at) VALUES (?, ?, ?, " + jsonParameter(rdbms) + ", ?)";
+        this.deleteStatement = "DELETE FROM " + outboxSchemaAwareExecution.outboxTable() + " WHERE id = ?";
+    }
+
+    @Override
+    public void save(OutboxEntry entry) {
+        saveAll(List.of(entry));
+    }
+
+    @Override
+    public void saveAll(List<OutboxEntry> entries) {
+        insert(entries);
+    }
+
+    /**
+     * Inserts all entries, then deletes them by id, each as a single JDBC batch.
+     */
+    @Override
+    public void saveAllTransiently(List<OutboxEntry> entries) {
+        List<UUID> ids = insert(entries);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(deleteStatement, ids, ids.size(), (ps, id) -> setId(ps, 1, id));
+    }
+
+    /**
+     * Deletes the entries by id as a single JDBC batch.
+     */
+    @Override
+    public void markPublished(List<OutboxEntry> entries) {
+        List<UUID> ids = entries.stream()
+          .map(OutboxEntry::getId)
+          .filter(Objects::nonNull)
+          .map(UUID::fromString)
+          .toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(deleteStatement, ids, ids.size(), (ps, id) -> setId(ps, 1, id));
+    }
+
+    private List<UUID> insert(List<OutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> ids = new ArrayList<>(entries.size());
+        for (OutboxEntry entry : entries) {
+            UUID id = idGenerator.generateId();
+            entry.assignId(id.toString());
+            ids.add(id);
+        }
+
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(insertStatement, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                JdbcOutboxRepository.this.setValues(ps, ids.get(i), entries.get(i), createdAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+
+        return ids;
+    }
+
+    private void setValues(PreparedStatement ps, UUID id, OutboxEntry entry, Timestamp createdAt)
+      throws SQLException {
+
+        setId(ps, 1, id);
+        ps.setString(2, entry.getType());
+        ps.setBytes(3, entry.getPayload());
+        ps.setString(4, OutboxJson.toJson(entry.getMetadata()));
+        ps.setTimestamp(5, createdAt);
+    }
+
+    private void setId(PreparedStatement ps, int index, UUID id) throws SQLException {
+        if (rdbms.equals("MySQL")) {
+            ps.setBytes(index, toBytes(id));
+        } else {
+            ps.setObject(index, id);
+        }
+    }
+
+    private static String jsonParameter(String rdbms) {
+        return switch (rdbms) {
+            case "PostgreSQL" -> "CAST(? AS JSONB)";
+            case "H2" -> "? FORMAT JSON";
+            default -> "?";
+        };
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+          .putLong(uuid.getMostSignificantBits())
+          .putLong(uuid.getLeastSignificantBits())
+          .array();
+    }
+}
@@ -17,6 +17,7 @@
 package io.github.raedbh.spring.outbox.jpa;
 
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
 
@@ -49,12 +50,16 @@ final class JpaOutboxEntry implements Serializable {
     @Nullable
     @JdbcTypeCode(SqlTypes.JSON) private final Map<String, String> metadata;
 
+    @Column(name = "created_at", nullable = false)
+    @JdbcTypeCode(SqlTypes.TIMESTAMP) final Instant createdAt;
 
-    JpaOutboxEntry(UUID id, String type, byte[] payload, @Nullable Map<String, String> metadata) {
+
+    JpaOutboxEntry(UUID id, String type, byte[] payload, @Nullable Map<String, String> metadata, Instant createdAt) {
         this.id = id;
         this.type = type;
         this.payload = payload;
         this.metadata = metadata;
+        this.createdAt = createdAt;
     }
 
     JpaOutboxEntry() {
@@ -62,5 +67,6 @@ final class JpaOutboxEntry implements Serializable {
         this.type = null;
         this.payload = null;
         this.metadata = null;
+        this.createdAt = null;
     }
 }
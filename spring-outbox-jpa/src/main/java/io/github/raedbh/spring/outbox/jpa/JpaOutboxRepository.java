@@ -16,38 +16,98 @@
 
 package io.github.raedbh.spring.outbox.jpa;
 
-import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
+import jakarta.persistence.EntityManager;
+
 import io.github.raedbh.spring.outbox.core.OutboxEntry;
 import io.github.raedbh.spring.outbox.core.OutboxRepository;
 
 /**
- * JPA implementation of {@link OutboxRepository}, considering schema configuration for event persistence.
+ * JPA implementation of {@link OutboxRepository}.
+ *
+ * <p>When an outbox schema is configured, the {@link JpaOutboxEntry} table is already qualified with it at startup
+ * (see {@link OutboxTableSchemaIntegrator}), so entries are persisted without any per-call schema switching.</p>
  *
  * @author Raed Ben Hamouda
  * @since 1.0
  */
 class JpaOutboxRepository implements OutboxRepository {
 
-    private final OutboxSchemaAwareExecution outboxSchemaAwareExecution;
+    private final EntityManager entityManager;
+    private final OutboxIdGenerator idGenerator;
+    private final JdbcOutboxRepository jdbcOutboxRepository;
 
-    JpaOutboxRepository(OutboxSchemaAwareExecution outboxSchemaAwareExecution) {
-        this.outboxSchemaAwareExecution = outboxSchemaAwareExecution;
+    JpaOutboxRepository(EntityManager entityManager, OutboxIdGenerator idGenerator,
+      JdbcOutboxRepository jdbcOutboxRepository) {
+        this.entityManager = entityManager;
+        this.idGenerator = idGenerator;
+        this.jdbcOutboxRepository = jdbcOutboxRepository;
     }
 
     @Override
     public void save(OutboxEntry entry) {
-        try {
-            outboxSchemaAwareExecution.execute(false, false, context -> context
-              .entityManager()
-              .persist(new JpaOutboxEntry(
-                UUID.randomUUID(),
-                entry.getType(),
-                entry.getPayload(),
-                entry.getMetadata())));
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+        saveAll(List.of(entry));
+    }
+
+    /**
+     * Persists all entries. Their inserts are flushed as JDBC batches when {@code hibernate.jdbc.batch_size} is
+     * configured, e.g. with {@code spring.jpa.properties.hibernate.jdbc.batch_size}: the JDBC batch size of the
+     * session is left as configured, the session being shared with the application.
+     */
+    @Override
+    public void saveAll(List<OutboxEntry> entries) {
+        persist(entries);
+    }
+
+    /**
+     * Inserts then deletes all entries through JDBC on the transaction-bound connection (see
+     * {@link JdbcOutboxRepository#saveAllTransiently(List)}), so that the entries never enter the persistence context
+     * and the pending changes of the application are not flushed along with them.
+     */
+    @Override
+    public void saveAllTransiently(List<OutboxEntry> entries) {
+        jdbcOutboxRepository.saveAllTransiently(entries);
+    }
+
+    /**
+     * Deletes the entries with a single bulk statement. Requires an active transaction.
+     */
+    @Override
+    public void markPublished(List<OutboxEntry> entries) {
+        List<UUID> ids = entries.stream()
+          .map(OutboxEntry::getId)
+          .filter(Objects::nonNull)
+          .map(UUID::fromString)
+          .toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        entityManager.createQuery("DELETE FROM JpaOutboxEntry e WHERE e.id IN :ids")
+          .setParameter("ids", ids)
+          .executeUpdate();
+    }
+
+    private void persist(List<OutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Instant createdAt = Instant.now();
+        for (OutboxEntry entry : entries) {
+            UUID id = idGenerator.generateId();
+            entry.assignId(id.toString());
+            JpaOutboxEntry jpaOutboxEntry = new JpaOutboxEntry(
+              id,
+              entry.getType(),
+              entry.getPayload(),
+              entry.getMetadata(),
+              createdAt);
+            entityManager.persist(jpaOutboxEntry);
         }
     }
 }
@@ -0,0 +1,130 @@
+/*
+ *  Copyright 2024 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+import io.github.raedbh.spring.outbox.core.OutboxEntry;
+import io.github.raedbh.spring.outbox.core.OutboxRepository;
+
+/**
+ * PostgreSQL implementation of {@link OutboxRepository} emitting each entry as a transactional logical decoding
+ * message with {@code pg_logical_emit_message} instead of inserting a row.
+ *
+ * <p>The messages are written to the WAL only and decoded at commit time, so they share the atomicity of the
+ * surrounding transaction without any heap write, index maintenance or vacuum on an outbox table. The message content
+ * is the JSON document {@code {"id": ..., "type": ..., "payload": <base64>, "metadata": {...}}}, published under the
+ * {@value #MESSAGE_PREFIX} prefix.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class LogicalMessageOutboxRepository implements OutboxRepository {
+
+    static final String MESSAGE_PREFIX = "outbox";
+
+    /**
+     * Bounds the number of bind parameters of a single statement.
+     */
+    private static final int MAX_MESSAGES_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxIdGenerator idGenerator;
+
+    LogicalMessageOutboxRepository(OutboxSchemaAwareExecution outboxSchemaAwareExecution,
+      OutboxIdGenerator idGenerator) {
+
+        Assert.state("PostgreSQL".equals(outboxSchemaAwareExecution.rdbms()),
+          "Logical decoding messages are only supported on PostgreSQL");
+
+        this.jdbcTemplate = new JdbcTemplate(outboxSchemaAwareExecution.dataSource());
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public void save(OutboxEntry entry) {
+        saveAll(List.of(entry));
+    }
+
+    /**
+     * Emits the entries in order, with one statement per chunk of entries.
+     */
+    @Override
+    public void saveAll(List<OutboxEntry> entries) {
+        for (int from = 0; from < entries.size(); from += MAX_MESSAGES_PER_STATEMENT) {
+            emit(entries.subList(from, Math.min(from + MAX_MESSAGES_PER_STATEMENT, entries.size())));
+        }
+    }
+
+    /**
+     * Logical decoding messages never reach a table, so they are transient by nature.
+     */
+    @Override
+    public void saveAllTransiently(List<OutboxEntry> entries) {
+        saveAll(entries);
+    }
+
+    @Override
+    public void markPublished(List<OutboxEntry> entries) {
+        // logical decoding messages leave nothing to remove
+    }
+
+    private void emit(List<OutboxEntry> entries) {
+
+        // volatile functions are evaluated after the sort, so messages are emitted in the order of the entries
+        StringBuilder sql = new StringBuilder("SELECT pg_logical_emit_message(true, '")
+          .append(MESSAGE_PREFIX)
+          .append("', m.content) FROM (VALUES ");
+        for (int i = 0; i < entries.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(CAST(? AS BYTEA), ").append(i).append(')');
+        }
+        sql.append(") AS m(content, position) ORDER BY m.position");
+
+        jdbcTemplate.query(sql.toString(), ps -> {
+            for (int i = 0; i < entries.size(); i++) {
+                ps.setBytes(i + 1, toMessageContent(entries.get(i)));
+            }
+        }, rs -> {
+            // the emitted LSNs are not needed
+        });
+    }
+
+    private byte[] toMessageContent(OutboxEntry entry) {
+
+        String id = idGenerator.generateId().toString();
+        entry.assignId(id);
+
+        StringBuilder json = new StringBuilder("{\"id\":\"")
+          .append(id)
+          .append("\",\"type\":");
+        OutboxJson.appendJsonString(json, entry.getType())
+          .append(",\"payload\":\"")
+          .append(Base64.getEncoder().encodeToString(entry.getPayload()))
+          .append('"');
+        if (entry.getMetadata() != null) {
+            OutboxJson.appendJsonObject(json.append(",\"metadata\":"), entry.getMetadata());
+        }
+        json.append('}');
+
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
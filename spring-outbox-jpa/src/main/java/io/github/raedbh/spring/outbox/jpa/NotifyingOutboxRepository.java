@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2024 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+import io.github.raedbh.spring.outbox.core.OutboxEntry;
+import io.github.raedbh.spring.outbox.core.OutboxRepository;
+
+/**
+ * An {@link OutboxRepository} notifying a PostgreSQL channel with {@code pg_notify} whenever it inserts outbox rows.
+ *
+ * <p>The notification is issued on the transaction-bound connection, so PostgreSQL only delivers it once the
+ * transaction commits, and merges identical notifications of the same transaction. A relay listening to the channel
+ * can thus pick up new rows as soon as they become visible instead of polling the table at a short interval.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class NotifyingOutboxRepository implements OutboxRepository {
+
+    private final OutboxRepository delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+
+
+    NotifyingOutboxRepository(OutboxRepository delegate, JdbcTemplate jdbcTemplate, String channel) {
+        Assert.isTrue(channel.matches("[A-Za-z_][A-Za-z0-9_]*"), "Invalid notify channel: " + channel);
+
+        this.delegate = delegate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = channel;
+    }
+
+
+    @Override
+    public void save(OutboxEntry entry) {
+        delegate.save(entry);
+        notifyChannel();
+    }
+
+    @Override
+    public void saveAll(List<OutboxEntry> entries) {
+        delegate.saveAll(entries);
+        if (!entries.isEmpty()) {
+            notifyChannel();
+        }
+    }
+
+    /**
+     * Delegates without notifying, as transient entries leave no row to relay.
+     */
+    @Override
+    public void saveAllTransiently(List<OutboxEntry> entries) {
+        delegate.saveAllTransiently(entries);
+    }
+
+    @Override
+    public void markPublished(List<OutboxEntry> entries) {
+        delegate.markPublished(entries);
+    }
+
+    private void notifyChannel() {
+        jdbcTemplate.queryForList("SELECT pg_notify(?, '')", channel);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright 2024 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.util.UUID;
+
+/**
+ * Strategy for generating the primary key of outbox rows.
+ *
+ * <p>Register a bean of this type to replace the default, time-ordered UUIDv7 generation.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface OutboxIdGenerator {
+
+    UUID generateId();
+}
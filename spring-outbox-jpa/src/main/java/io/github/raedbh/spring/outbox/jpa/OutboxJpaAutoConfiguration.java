@@ -16,22 +16,41 @@
 
 package io.github.raedbh.spring.outbox.jpa;
 
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
 import jakarta.persistence.EntityManager;
 
+import javax.sql.DataSource;
+
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 import io.github.raedbh.spring.outbox.core.OutboxCoreConfiguration;
+import io.github.raedbh.spring.outbox.core.OutboxPurger;
 import io.github.raedbh.spring.outbox.core.OutboxRepository;
 
 /**
@@ -49,7 +68,8 @@ import io.github.raedbh.spring.outbox.core.OutboxRepository;
 public class OutboxJpaAutoConfiguration {
 
     @Bean
-    static BeanPostProcessor entityManagerFactoryBeanPostProcessor() {
+    static BeanPostProcessor entityManagerFactoryBeanPostProcessor(Environment environment) {
+        String schema = environment.getProperty("spring.outbox.relational.schema");
         return new BeanPostProcessor() {
             @Override
             public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
@@ -58,12 +78,54 @@ public class OutboxJpaAutoConfiguration {
                         String name = JpaOutboxEntry.class.getName();
                         pui.addManagedClassName(name);
                     });
+                    if (StringUtils.hasText(schema)) {
+                        registerOutboxTableSchemaIntegrator(factoryBean, schema);
+                    }
                 }
                 return bean;
             }
         };
     }
 
+    /**
+     * Registers the {@link OutboxTableSchemaIntegrator} along with the integrators of the provider already configured,
+     * e.g. with {@code spring.jpa.properties.hibernate.integrator_provider}, given as an instance, a class or a class
+     * name.
+     */
+    private static void registerOutboxTableSchemaIntegrator(LocalContainerEntityManagerFactoryBean factoryBean,
+      String schema) {
+
+        IntegratorProvider existingProvider = integratorProvider(
+          factoryBean.getJpaPropertyMap().get(JpaSettings.INTEGRATOR_PROVIDER), factoryBean.getBeanClassLoader());
+
+        List<Integrator> integrators = new ArrayList<>();
+        if (existingProvider != null) {
+            integrators.addAll(existingProvider.getIntegrators());
+        }
+        integrators.add(new OutboxTableSchemaIntegrator(schema));
+
+        factoryBean.getJpaPropertyMap()
+          .put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> integrators);
+    }
+
+    @Nullable
+    private static IntegratorProvider integratorProvider(@Nullable Object setting, ClassLoader classLoader) {
+
+        if (setting == null || setting instanceof IntegratorProvider) {
+            return (IntegratorProvider) setting;
+        }
+
+        Class<?> providerClass;
+        if (setting instanceof Class<?> settingClass) {
+            providerClass = settingClass;
+        } else {
+            providerClass = ClassUtils.resolveClassName(setting.toString().trim(), classLoader);
+        }
+        Assert.isAssignable(IntegratorProvider.class, providerClass,
+          JpaSettings.INTEGRATOR_PROVIDER + " must be an IntegratorProvider: ");
+        return (IntegratorProvider) BeanUtils.instantiateClass(providerClass);
+    }
+
     @Bean
     OutboxSchemaAwareExecution outboxSchemaAwareExecution(EntityManager entityManager,
       RelationalDatabaseProperties rdbmsConfigProperties) {
@@ -71,8 +133,70 @@ public class OutboxJpaAutoConfiguration {
     }
 
     @Bean
-    OutboxRepository outboxRepository(OutboxSchemaAwareExecution outboxSchemaAwareExecution) {
-        return new JpaOutboxRepository(outboxSchemaAwareExecution);
+    @ConditionalOnMissingBean
+    OutboxIdGenerator outboxIdGenerator(RelationalDatabaseProperties rdbmsConfigProperties) {
+        return new TimeOrderedOutboxIdGenerator(
+          rdbmsConfigProperties.getIdGeneration() == RelationalDatabaseProperties.IdGeneration.MONOTONIC);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.outbox.relational", name = "write-strategy", havingValue = "jpa",
+      matchIfMissing = true)
+    OutboxRepository outboxRepository(EntityManager entityManager, OutboxIdGenerator outboxIdGenerator,
+      OutboxSchemaAwareExecution outboxSchemaAwareExecution, RelationalDatabaseProperties rdbmsConfigProperties) {
+
+        return notifying(new JpaOutboxRepository(entityManager, outboxIdGenerator,
+          new JdbcOutboxRepository(outboxSchemaAwareExecution, outboxIdGenerator)), outboxSchemaAwareExecution,
+          rdbmsConfigProperties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.outbox.relational", name = "write-strategy", havingValue = "jdbc")
+    OutboxRepository jdbcOutboxRepository(OutboxSchemaAwareExecution outboxSchemaAwareExecution,
+      OutboxIdGenerator outboxIdGenerator, RelationalDatabaseProperties rdbmsConfigProperties) {
+
+        return notifying(new JdbcOutboxRepository(outboxSchemaAwareExecution, outboxIdGenerator),
+          outboxSchemaAwareExecution, rdbmsConfigProperties);
+    }
+
+    private static OutboxRepository notifying(OutboxRepository outboxRepository,
+      OutboxSchemaAwareExecution outboxSchemaAwareExecution, RelationalDatabaseProperties rdbmsConfigProperties) {
+
+        String notifyChannel = rdbmsConfigProperties.getNotifyChannel();
+        if (!StringUtils.hasText(notifyChannel)) {
+            return outboxRepository;
+        }
+
+        Assert.state(outboxSchemaAwareExecution.rdbms().equals("PostgreSQL"),
+          "Outbox notifications are only supported on PostgreSQL");
+        return new NotifyingOutboxRepository(outboxRepository,
+          new JdbcTemplate(outboxSchemaAwareExecution.dataSource()), notifyChannel);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.outbox.relational", name = "write-strategy",
+      havingValue = "logical-message")
+    OutboxRepository logicalMessageOutboxRepository(OutboxSchemaAwareExecution outboxSchemaAwareExecution,
+      OutboxIdGenerator outboxIdGenerator) {
+        return new LogicalMessageOutboxRepository(outboxSchemaAwareExecution, outboxIdGenerator);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    OutboxPurger outboxPurger(OutboxSchemaAwareExecution outboxSchemaAwareExecution) {
+        return new JdbcOutboxPurger(outboxSchemaAwareExecution);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.outbox.relational", name = "table-storage", havingValue = "partitioned")
+    OutboxPartitionMaintainer outboxPartitionMaintainer(OutboxSchemaAwareExecution outboxSchemaAwareExecution,
+      RelationalDatabaseProperties rdbmsConfigProperties) {
+
+        // created_at values are written in the JVM time zone
+        DataSource dataSource = outboxSchemaAwareExecution.dataSource();
+        return new OutboxPartitionMaintainer(new JdbcTemplate(dataSource),
+          new TransactionTemplate(new DataSourceTransactionManager(dataSource)), outboxSchemaAwareExecution,
+          rdbmsConfigProperties.getPartitioning(), Clock.systemDefaultZone());
     }
 
     @Bean
@@ -80,11 +204,13 @@ public class OutboxJpaAutoConfiguration {
     OutboxTableSchemaInitializer outboxTableSchemaInitializer(ResourceLoader resourceLoader,
       TransactionTemplate transactionTemplate,
       OutboxSchemaAwareExecution outboxSchemaAwareExecution,
-      HibernateProperties hibernateProperties) {
+      HibernateProperties hibernateProperties,
+      RelationalDatabaseProperties rdbmsConfigProperties) {
 
         return new OutboxTableSchemaInitializer(resourceLoader,
           transactionTemplate,
           outboxSchemaAwareExecution,
-          hibernateProperties);
+          hibernateProperties,
+          rdbmsConfigProperties.getTableStorage());
     }
 }
@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2024 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Minimal JSON writer for outbox metadata, avoiding a dependency on a JSON library for flat string maps.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+final class OutboxJson {
+
+    private OutboxJson() {}
+
+    @Nullable
+    static String toJson(@Nullable Map<String, String> metadata) {
+        if (metadata == null) {
+            return null;
+        }
+
+        return appendJsonObject(new StringBuilder(), metadata).toString();
+    }
+
+    static StringBuilder appendJsonObject(StringBuilder json, Map<String, String> values) {
+        json.append('{');
+        boolean first = true;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            appendJsonString(json, entry.getKey()).append(':');
+            if (entry.getValue() == null) {
+                json.append("null");
+            } else {
+                appendJsonString(json, entry.getValue());
+            }
+        }
+        return json.append('}');
+    }
+
+    static StringBuilder appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"');
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ *  Copyright 2024 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * Rotates the partitions of a range-partitioned PostgreSQL outbox table.
+ *
+ * <p>Each run creates the partitions covering the current and the next {@code premake} intervals, and drops the
+ * partitions whose upper bound is older than the retention. Dropping a partition is a constant-time catalog operation,
+ * unlike deleting its rows, and keeps the partition receiving inserts small.</p>
+ *
+ * <p>Partitions are named {@code outbox_p<from>_<to>}, with bounds formatted as {@code yyyyMMddHHmm}. Rows written
+ * outside of any partition land in the {@code outbox_default} partition, which is never dropped. When a partition is
+ * created after rows of its range landed there, e.g. after the application was down for longer than the premade
+ * intervals, those rows are moved to the new partition before it is attached, as PostgreSQL refuses to attach a
+ * partition whose range has rows in the default partition. The new partition is attached once filled, so the moved
+ * rows are not captured again as inserted into the outbox.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxPartitionMaintainer implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxPartitionMaintainer.class);
+
+    private static final DateTimeFormatter BOUND_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    private static final DateTimeFormatter BOUND_VALUE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern PARTITION_NAME = Pattern.compile("outbox_p(\\d{12})_(\\d{12})");
+    private static final String DEFAULT_PARTITION = "outbox_default";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxSchemaAwareExecution outboxSchemaAwareExecution;
+    private final RelationalDatabaseProperties.Partitioning partitioning;
+    private final Clock clock;
+
+    private ScheduledExecutorService executorService;
+
+
+    OutboxPartitionMaintainer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+      OutboxSchemaAwareExecution outboxSchemaAwareExecution, RelationalDatabaseProperties.Partitioning partitioning,
+      Clock clock) {
+
+        Assert.isTrue(partitioning.getInterval().compareTo(Duration.ofMinutes(1)) >= 0,
+          "Partition interval must be at least 1 minute");
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxSchemaAwareExecution = outboxSchemaAwareExecution;
+        this.partitioning = partitioning;
+        this.clock = clock;
+    }
+
+
+    /**
+     * Runs a first maintenance synchronously, so that the current partition exists before the application starts
+     * writing, then schedules the next ones.
+     */
+    @Override
+    public synchronized void start() {
+        if (executorService != null) {
+            return;
+        }
+
+        maintainPartitions();
+
+        executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-partition-maintainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long interval = partitioning.getMaintenanceInterval().toMillis();
+        executorService.scheduleWithFixedDelay(this::maintainPartitions, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executorService == null) {
+            return;
+        }
+
+        executorService.shutdownNow();
+        executorService = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executorService != null;
+    }
+
+    void maintainPartitions() {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            createUpcomingPartitions(now);
+            dropExpiredPartitions(now.minus(partitioning.getRetention()));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to maintain outbox partitions, retrying on next run..", e);
+        }
+    }
+
+    private void createUpcomingPartitions(LocalDateTime now) {
+
+        long intervalSeconds = partitioning.getInterval().toSeconds();
+        long nowSeconds = now.toEpochSecond(ZoneOffset.UTC);
+        long currentFromSeconds = nowSeconds - Math.floorMod(nowSeconds, intervalSeconds);
+        boolean defaultPartition = exists(outboxSchemaAwareExecution.qualifiedTable(DEFAULT_PARTITION));
+
+        for (int i = 0; i <= partitioning.getPremake(); i++) {
+            LocalDateTime from = LocalDateTime.ofEpochSecond(currentFromSeconds + i * intervalSeconds, 0,
+              ZoneOffset.UTC);
+            LocalDateTime to = from.plusSeconds(intervalSeconds);
+
+            String partition = outboxSchemaAwareExecution.qualifiedTable(
+              "outbox_p" + from.format(BOUND_NAME_FORMAT) + "_" + to.format(BOUND_NAME_FORMAT));
+            String bounds = "FOR VALUES FROM ('" + from.format(BOUND_VALUE_FORMAT) + "') TO ('"
+              + to.format(BOUND_VALUE_FORMAT) + "')";
+
+            if (!defaultPartition) {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF "
+                  + outboxSchemaAwareExecution.outboxTable() + " " + bounds);
+            } else if (!exists(partition)) {
+                createFromDefaultPartition(partition, bounds, from, to);
+            }
+        }
+    }
+
+    /**
+     * Creates the partition as a standalone table, moves the rows of its range out of the default partition, then
+     * attaches it, in a single transaction. The default partition is locked upfront, as attaching the partition scans
+     * it for rows of the range anyway.
+     */
+    private void createFromDefaultPartition(String partition, String bounds, LocalDateTime from, LocalDateTime to) {
+
+        String outboxTable = outboxSchemaAwareExecution.outboxTable();
+        String defaultPartition = outboxSchemaAwareExecution.qualifiedTable(DEFAULT_PARTITION);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("LOCK TABLE " + defaultPartition + " IN ACCESS EXCLUSIVE MODE");
+            jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + outboxTable
+              + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+            int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + defaultPartition
+              + " WHERE created_at >= '" + from.format(BOUND_VALUE_FORMAT) + "' AND created_at < '"
+              + to.format(BOUND_VALUE_FORMAT) + "' RETURNING *) INSERT INTO " + partition + " SELECT * FROM moved");
+            jdbcTemplate.execute("ALTER TABLE " + outboxTable + " ATTACH PARTITION " + partition + " " + bounds);
+
+            if (moved > 0) {
+                LOGGER.info("Moved {} outbox rows from the default partition to {}", moved, partition);
+            }
+        });
+    }
+
+    private boolean exists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+          table));
+    }
+
+    private void dropExpiredPartitions(LocalDateTime expiredBefore) {
+
+        List<String> partitions = jdbcTemplate.queryForList("""
+          SELECT c.relname
+          FROM pg_inherits i
+          JOIN pg_class c ON c.oid = i.inhrelid
+          WHERE i.inhparent = CAST(? AS regclass)
+          """, String.class, outboxSchemaAwareExecution.outboxTable());
+
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+
+            LocalDateTime to = LocalDateTime.parse(matcher.group(2), BOUND_NAME_FORMAT);
+            if (!to.isAfter(expiredBefore)) {
+                LOGGER.info("Dropping expired outbox partition {}", partition);
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + outboxSchemaAwareExecution.qualifiedTable(partition));
+            }
+        }
+    }
+}
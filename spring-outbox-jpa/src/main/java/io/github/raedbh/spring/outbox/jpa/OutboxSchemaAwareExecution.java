@@ -35,6 +35,9 @@ import org.springframework.util.Assert;
  * <p>This bean ensures that the specified schema is created (if necessary) and temporarily set as the active schema during
  * the execution of the provided callback. Once the execution completes, it restores the initial schema context.</p>
  *
+ * <p>Switching schemas costs extra round trips, so it is reserved for DDL. Outbox writes use the schema-qualified
+ * {@link #outboxTable() outbox table} resolved once at startup instead.</p>
+ *
  * @author Raed Ben Hamouda
  * @since 1.0
  */
@@ -66,6 +69,28 @@ class OutboxSchemaAwareExecution implements InitializingBean {
         Assert.hasText(this.rdbms, "RDBMS must not be null or empty");
     }
 
+    DataSource dataSource() {
+        return dataSource;
+    }
+
+    String rdbms() {
+        return rdbms;
+    }
+
+    /**
+     * The outbox table name, qualified with the configured schema if any.
+     */
+    String outboxTable() {
+        return qualifiedTable("outbox");
+    }
+
+    /**
+     * The given table name, qualified with the configured schema if any.
+     */
+    String qualifiedTable(String table) {
+        return schemaSpecified ? schema + "." + table : table;
+    }
+
     public void execute(boolean withSchemaCreation, boolean dropExistentOutboxTable, OutboxSchemaAwareCallback callback)
       throws SQLException {
 
@@ -75,6 +100,10 @@ class OutboxSchemaAwareExecution implements InitializingBean {
             return;
         }
 
+        if (schemaSpecified && withSchemaCreation) {
+            entityManager.createNativeQuery("CREATE SCHEMA IF NOT EXISTS " + schema).executeUpdate();
+        }
+
         if (dropExistentOutboxTable) {
             entityManager.createNativeQuery("DROP TABLE IF EXISTS outbox;").executeUpdate();
             if (schemaSpecified) {
@@ -89,10 +118,6 @@ class OutboxSchemaAwareExecution implements InitializingBean {
             initialSchema = connection.getSchema();
 
             if (schemaSpecified) {
-                if (withSchemaCreation) {
-                    entityManager.createNativeQuery("CREATE SCHEMA IF NOT EXISTS " + schema)
-                      .executeUpdate();
-                }
                 entityManager.createNativeQuery(generateSetSchemaStatement(rdbms, schema)).executeUpdate();
             }
 
@@ -127,6 +152,9 @@ class OutboxSchemaAwareExecution implements InitializingBean {
         if (rdbms.equals("PostgreSQL")) {
             return "SET search_path TO " + schema;
         }
+        if (rdbms.equals("H2")) {
+            return "SET SCHEMA " + schema;
+        }
         throw new IllegalArgumentException("Schema setting is not supported for the database: " + rdbms);
     }
 }
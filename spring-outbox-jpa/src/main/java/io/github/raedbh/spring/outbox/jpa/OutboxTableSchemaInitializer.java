@@ -25,6 +25,7 @@ import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionCallbackWithoutResult;
 import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
 
 /**
  * Initializes the database schema for the outbox table.
@@ -38,18 +39,21 @@ class OutboxTableSchemaInitializer implements InitializingBean {
     private final TransactionTemplate transactionTemplate;
     private final OutboxSchemaAwareExecution outboxSchemaAwareExecution;
     private final boolean dropExistentOutboxTable;
+    private final RelationalDatabaseProperties.TableStorage tableStorage;
 
 
     OutboxTableSchemaInitializer(ResourceLoader resourceLoader,
       TransactionTemplate transactionTemplate,
       OutboxSchemaAwareExecution outboxSchemaAwareExecution,
-      HibernateProperties hibernateProperties) {
+      HibernateProperties hibernateProperties,
+      RelationalDatabaseProperties.TableStorage tableStorage) {
 
         this.resourceLoader = resourceLoader;
         this.transactionTemplate = transactionTemplate;
         this.outboxSchemaAwareExecution = outboxSchemaAwareExecution;
         this.dropExistentOutboxTable = "create".equals(hibernateProperties.getDdlAuto()) ||
           "create-drop".equals(hibernateProperties.getDdlAuto());
+        this.tableStorage = tableStorage;
     }
 
 
@@ -61,7 +65,7 @@ class OutboxTableSchemaInitializer implements InitializingBean {
                 try {
                     outboxSchemaAwareExecution.execute(true, dropExistentOutboxTable, context -> {
                         String location = ResourceLoader.CLASSPATH_URL_PREFIX + "/create-outbox-table-" +
-                          context.rdbms().toLowerCase() + ".sql";
+                          context.rdbms().toLowerCase() + scriptSuffix(context.rdbms()) + ".sql";
                         new ResourceDatabasePopulator(resourceLoader.getResource(location))
                           .execute(context.dataSource());
                     });
@@ -71,4 +75,16 @@ class OutboxTableSchemaInitializer implements InitializingBean {
             }
         });
     }
+
+    private String scriptSuffix(String rdbms) {
+        if (tableStorage == RelationalDatabaseProperties.TableStorage.BLACKHOLE) {
+            Assert.state(rdbms.equals("MySQL"), "BLACKHOLE outbox table storage is only supported on MySQL");
+            return "-blackhole";
+        }
+        if (tableStorage == RelationalDatabaseProperties.TableStorage.PARTITIONED) {
+            Assert.state(rdbms.equals("PostgreSQL"), "Partitioned outbox table storage is only supported on PostgreSQL");
+            return "-partitioned";
+        }
+        return "";
+    }
 }
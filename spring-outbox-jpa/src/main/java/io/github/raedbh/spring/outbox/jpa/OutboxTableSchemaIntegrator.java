@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2024 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Hibernate {@link Integrator} qualifying the {@link JpaOutboxEntry} table with the configured outbox schema.
+ *
+ * <p>This lets outbox rows be written to {@code <schema>.outbox} directly, without switching the connection's
+ * schema for every insert.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxTableSchemaIntegrator implements Integrator {
+
+    private final String schema;
+
+    OutboxTableSchemaIntegrator(String schema) {
+        this.schema = schema;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+      SessionFactoryImplementor sessionFactory) {
+
+        PersistentClass entityBinding = metadata.getEntityBinding(JpaOutboxEntry.class.getName());
+        if (entityBinding != null) {
+            entityBinding.getTable().setSchema(schema);
+        }
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // nothing to release
+    }
+}
@@ -16,6 +16,8 @@
 
 package io.github.raedbh.spring.outbox.jpa;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
 import org.springframework.boot.context.properties.bind.DefaultValue;
@@ -35,17 +37,42 @@ class RelationalDatabaseProperties {
     @Nullable
     private final String schema;
 
+    private final WriteStrategy writeStrategy;
+
+    private final IdGeneration idGeneration;
+
+    private final TableStorage tableStorage;
+
+    private final Partitioning partitioning;
+
+    @Nullable
+    private final String notifyChannel;
+
 
     /**
      * Creates a new {@link RelationalDatabaseProperties} instance.
      *
      * @param autoCreate whether to create outbox tables on startup. Defaults to {@code false}.
      * @param schema optional schema name for the outbox table.
+     * @param writeStrategy how outbox rows are written. Defaults to {@link WriteStrategy#JPA}.
+     * @param idGeneration how outbox row identifiers are generated. Defaults to {@link IdGeneration#TIME_ORDERED}.
+     * @param tableStorage how the automatically created outbox table stores its rows. Defaults to
+     * {@link TableStorage#STANDARD}.
+     * @param partitioning how partitions are rotated when using {@link TableStorage#PARTITIONED} storage.
+     * @param notifyChannel optional PostgreSQL channel notified whenever outbox rows are inserted.
      */
     @ConstructorBinding
-    RelationalDatabaseProperties(@DefaultValue("false") boolean autoCreate, @Nullable String schema) {
+    RelationalDatabaseProperties(@DefaultValue("false") boolean autoCreate, @Nullable String schema,
+      @DefaultValue("jpa") WriteStrategy writeStrategy, @DefaultValue("time-ordered") IdGeneration idGeneration,
+      @DefaultValue("standard") TableStorage tableStorage, @DefaultValue Partitioning partitioning,
+      @Nullable String notifyChannel) {
         this.autoCreate = autoCreate;
         this.schema = schema;
+        this.writeStrategy = writeStrategy;
+        this.idGeneration = idGeneration;
+        this.tableStorage = tableStorage;
+        this.partitioning = partitioning;
+        this.notifyChannel = notifyChannel;
     }
 
 
@@ -63,4 +90,137 @@ class RelationalDatabaseProperties {
     String getSchema() {
         return schema;
     }
+
+    /**
+     * The strategy used to write outbox rows.
+     */
+    WriteStrategy getWriteStrategy() {
+        return writeStrategy;
+    }
+
+    /**
+     * The strategy used to generate outbox row identifiers, unless a custom {@link OutboxIdGenerator} bean is defined.
+     */
+    IdGeneration getIdGeneration() {
+        return idGeneration;
+    }
+
+    /**
+     * The storage of the automatically created outbox table.
+     */
+    TableStorage getTableStorage() {
+        return tableStorage;
+    }
+
+    /**
+     * The partition rotation settings of a {@link TableStorage#PARTITIONED} outbox table.
+     */
+    Partitioning getPartitioning() {
+        return partitioning;
+    }
+
+    /**
+     * The PostgreSQL channel notified on commit of the transactions inserting outbox rows, or {@code null} if
+     * notifications are disabled.
+     */
+    @Nullable
+    String getNotifyChannel() {
+        return notifyChannel;
+    }
+
+    enum WriteStrategy {
+
+        /**
+         * Outbox rows are persisted as managed JPA entities.
+         */
+        JPA,
+
+        /**
+         * Outbox rows are inserted with plain JDBC batches on the transaction-bound connection, bypassing the
+         * persistence context.
+         */
+        JDBC,
+
+        /**
+         * Outbox entries are emitted as transactional logical decoding messages with {@code pg_logical_emit_message},
+         * without writing any row. PostgreSQL only.
+         */
+        LOGICAL_MESSAGE
+    }
+
+    enum IdGeneration {
+
+        /**
+         * UUIDv7 identifiers, ordered by their millisecond timestamp.
+         */
+        TIME_ORDERED,
+
+        /**
+         * UUIDv7 identifiers that are also strictly increasing within the same millisecond. Recommended for MySQL,
+         * where the primary key is the clustered index.
+         */
+        MONOTONIC
+    }
+
+    enum TableStorage {
+
+        /**
+         * The outbox table is a regular table of the database default engine, with secondary indexes.
+         */
+        STANDARD,
+
+        /**
+         * The outbox table uses the {@code BLACKHOLE} engine: inserted rows are written to the binary log, where
+         * the Debezium MySQL connector reads them, but never stored. MySQL only.
+         */
+        BLACKHOLE,
+
+        /**
+         * The outbox table is range-partitioned on {@code created_at}, and expired partitions are dropped as a whole
+         * instead of deleting their rows. PostgreSQL only.
+         */
+        PARTITIONED
+    }
+
+    static class Partitioning {
+
+        private final Duration interval;
+        private final int premake;
+        private final Duration retention;
+        private final Duration maintenanceInterval;
+
+
+        /**
+         * Creates a new {@link Partitioning} instance.
+         *
+         * @param interval the time range covered by each partition. Defaults to 1 day.
+         * @param premake the number of upcoming partitions created ahead of time. Defaults to 3.
+         * @param retention the age after which a partition is dropped, based on its upper bound. Defaults to 7 days.
+         * @param maintenanceInterval the delay between two partition maintenance runs. Defaults to 1 hour.
+         */
+        Partitioning(@DefaultValue("1d") Duration interval, @DefaultValue("3") int premake,
+          @DefaultValue("7d") Duration retention, @DefaultValue("1h") Duration maintenanceInterval) {
+            this.interval = interval;
+            this.premake = premake;
+            this.retention = retention;
+            this.maintenanceInterval = maintenanceInterval;
+        }
+
+
+        Duration getInterval() {
+            return interval;
+        }
+
+        int getPremake() {
+            return premake;
+        }
+
+        Duration getRetention() {
+            return retention;
+        }
+
+        Duration getMaintenanceInterval() {
+            return maintenanceInterval;
+        }
+    }
 }
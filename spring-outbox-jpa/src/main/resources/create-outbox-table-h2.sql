@@ -3,7 +3,9 @@ CREATE TABLE IF NOT EXISTS outbox (
     type       VARCHAR(255) NOT NULL,
     payload    BLOB,
     metadata   JSON,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY (id)
 );
 
 CREATE INDEX idx_type ON outbox (type);
+CREATE INDEX idx_created_at ON outbox (created_at);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS outbox
+(
+    id         BINARY(16) NOT NULL,
+    type       VARCHAR(255) NOT NULL,
+    payload    BLOB,
+    metadata   JSON,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id)
+) ENGINE = BLACKHOLE;
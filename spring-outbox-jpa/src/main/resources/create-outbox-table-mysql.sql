@@ -4,6 +4,8 @@ CREATE TABLE IF NOT EXISTS outbox
     type       VARCHAR(255) NOT NULL,
     payload    BLOB,
     metadata   JSON,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     PRIMARY KEY (id),
-    INDEX      idx_type (type)
+    INDEX      idx_type (type),
+    INDEX      idx_created_at (created_at)
 );
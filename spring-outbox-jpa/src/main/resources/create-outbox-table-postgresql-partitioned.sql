@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS outbox
+(
+    id         UUID         NOT NULL,
+    type       VARCHAR(255) NOT NULL,
+    payload    BYTEA,
+    metadata   JSONB,
+    created_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE IF NOT EXISTS outbox_default PARTITION OF outbox DEFAULT;
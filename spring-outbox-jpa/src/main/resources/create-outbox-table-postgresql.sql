@@ -4,7 +4,9 @@ CREATE TABLE IF NOT EXISTS outbox
     type       VARCHAR(255) NOT NULL,
     payload    BYTEA,
     metadata   JSONB,
+    created_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
     PRIMARY KEY (id)
 );
 
 CREATE INDEX idx_type ON outbox (type);
+CREATE INDEX idx_created_at ON outbox (created_at);
@@ -0,0 +1,87 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.acme.eshop.Application;
+
+import io.github.raedbh.spring.outbox.core.OutboxEntry;
+import io.github.raedbh.spring.outbox.core.OutboxPurger;
+import io.github.raedbh.spring.outbox.core.OutboxRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link JdbcOutboxPurger}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@SpringBootTest(classes = Application.class,
+  properties = {"spring.outbox.relational.auto-create=true", "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.outbox.relational.write-strategy=jdbc"})
+class JdbcOutboxPurgerTests {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Autowired OutboxRepository outboxRepository;
+    @Autowired OutboxPurger outboxPurger;
+
+    @BeforeEach
+    void clearDatabase() {
+        jdbcTemplate.update("DELETE FROM outbox");
+    }
+
+    @Test
+    void purgeOldestExpiredRowsUpToLimit() {
+
+        outboxRepository.saveAll(List.of(
+          new OutboxEntry("Expired1", new byte[]{1}),
+          new OutboxEntry("Expired2", new byte[]{2}),
+          new OutboxEntry("Expired3", new byte[]{3}),
+          new OutboxEntry("Recent", new byte[]{4})));
+
+        backdate("Expired1", Duration.ofDays(3));
+        backdate("Expired2", Duration.ofDays(2));
+        backdate("Expired3", Duration.ofDays(2).minusSeconds(1));
+
+        assertThat(outboxPurger.purge(Duration.ofDays(1), 2)).isEqualTo(2);
+        assertThat(remainingTypes()).containsExactlyInAnyOrder("Expired3", "Recent");
+
+        assertThat(outboxPurger.purge(Duration.ofDays(1), 2)).isEqualTo(1);
+        assertThat(remainingTypes()).containsExactly("Recent");
+    }
+
+    private void backdate(String type, Duration age) {
+        jdbcTemplate.update("UPDATE outbox SET created_at = ? WHERE type = ?",
+          Timestamp.from(Instant.now().minus(age)), type);
+    }
+
+    private List<String> remainingTypes() {
+        return jdbcTemplate.queryForList("SELECT type FROM outbox", String.class);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.acme.eshop.Application;
+import com.acme.eshop.EmailNotification;
+import com.acme.eshop.Order;
+import com.acme.eshop.OrderRepository;
+
+import io.github.raedbh.spring.outbox.core.OutboxEntry;
+import io.github.raedbh.spring.outbox.core.OutboxRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link JdbcOutboxRepository}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@SpringBootTest(classes = Application.class,
+  properties = {"spring.outbox.relational.auto-create=true", "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.outbox.relational.write-strategy=jdbc"})
+class JdbcOutboxRepositoryTests {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Autowired OutboxRepository outboxRepository;
+    @Autowired OrderRepository orderRepository;
+
+    @BeforeEach
+    void clearDatabase() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    @Test
+    void registerJdbcOutboxRepository() {
+        assertThat(outboxRepository).isInstanceOf(JdbcOutboxRepository.class);
+    }
+
+    @Test
+    void saveAllInsertsRowsWithJsonMetadata() {
+
+        outboxRepository.saveAll(List.of(
+          new OutboxEntry("OrderPaid", new byte[]{1}, Map.of("operation", "pay \"now\"")),
+          new OutboxEntry("EmailNotification", new byte[]{2})));
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+          "SELECT type, CAST(metadata AS VARCHAR) AS metadata FROM outbox ORDER BY type");
+
+        assertThat(rows).extracting(row -> row.get("type")).containsExactly("EmailNotification", "OrderPaid");
+        assertThat(rows).extracting(row -> row.get("metadata"))
+          .containsExactly(null, "{\"operation\":\"pay \\\"now\\\"\"}");
+    }
+
+    @Test
+    void markPublishedDeletesSavedEntries() {
+
+        OutboxEntry published = new OutboxEntry("OrderPaid", new byte[]{1});
+        OutboxEntry pending = new OutboxEntry("EmailNotification", new byte[]{2});
+        outboxRepository.saveAll(List.of(published, pending));
+
+        outboxRepository.markPublished(List.of(published));
+
+        assertThat(published.getId()).isNotNull();
+        assertThat(jdbcTemplate.queryForList("SELECT type FROM outbox", String.class))
+          .containsExactly("EmailNotification");
+    }
+
+    @Test
+    void saveRootEntityWithAssignedEventCreatesOutboxEntries() {
+
+        Order order = orderRepository.save(new Order());
+        orderRepository.markPaid(order, new EmailNotification("cust@test.com", "Order Placed", "Body"));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Integer.class)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.github.raedbh.spring.outbox.core.OutboxEntry;
+import io.github.raedbh.spring.outbox.core.OutboxRepository;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link NotifyingOutboxRepository}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class NotifyingOutboxRepositoryTests {
+
+    NotifyingOutboxRepository outboxRepository;
+
+    @Mock OutboxRepository delegate;
+    @Mock JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = new NotifyingOutboxRepository(delegate, jdbcTemplate, "outbox_inserted");
+    }
+
+    @Test
+    void notifyChannelAfterSavingEntries() {
+
+        List<OutboxEntry> entries = List.of(new OutboxEntry("OrderPaid", new byte[]{1}));
+
+        outboxRepository.saveAll(entries);
+
+        InOrder inOrder = inOrder(delegate, jdbcTemplate);
+        inOrder.verify(delegate).saveAll(entries);
+        inOrder.verify(jdbcTemplate).queryForList("SELECT pg_notify(?, '')", "outbox_inserted");
+    }
+
+    @Test
+    void skipNotificationWhenNothingIsSaved() {
+
+        outboxRepository.saveAll(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void skipNotificationForTransientEntries() {
+
+        List<OutboxEntry> entries = List.of(new OutboxEntry("OrderPaid", new byte[]{1}));
+
+        outboxRepository.saveAllTransiently(entries);
+
+        verify(delegate).saveAllTransiently(entries);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void rejectInvalidChannel() {
+        assertThatIllegalArgumentException()
+          .isThrownBy(() -> new NotifyingOutboxRepository(delegate, jdbcTemplate, "outbox; DROP TABLE outbox"));
+    }
+}
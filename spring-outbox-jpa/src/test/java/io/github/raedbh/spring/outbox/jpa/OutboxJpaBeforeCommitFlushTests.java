@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.acme.eshop.Application;
+import com.acme.eshop.EmailNotification;
+import com.acme.eshop.Order;
+import com.acme.eshop.OrderRepository;
+
+import io.github.raedbh.spring.outbox.core.OutboxFlushMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the {@link OutboxFlushMode#BEFORE_COMMIT} flush mode.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@SpringBootTest(classes = Application.class,
+  properties = {"spring.outbox.relational.auto-create=true", "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.outbox.flush-mode=before-commit"})
+class OutboxJpaBeforeCommitFlushTests {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @Autowired OrderRepository orderRepository;
+
+    @BeforeEach
+    void clearDatabase() {
+        jdbcTemplate.update("DELETE FROM outbox");
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    @Test
+    void writeOutboxEntriesOfWholeTransactionOnCommit() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.save(new Order().markPaid(new EmailNotification("a@test.com", "Order Placed", "Body")));
+            orderRepository.save(new Order().markPaid(new EmailNotification("b@test.com", "Order Placed", "Body")));
+
+            assertThat(outboxCount()).isNotNull().isEqualTo(0);
+        });
+
+        assertThat(ordersCount()).isNotNull().isEqualTo(2);
+        assertThat(outboxCount()).isNotNull().isEqualTo(4);
+    }
+
+    @Nullable
+    private Integer outboxCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Integer.class);
+    }
+
+    @Nullable
+    private Integer ordersCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class);
+    }
+}
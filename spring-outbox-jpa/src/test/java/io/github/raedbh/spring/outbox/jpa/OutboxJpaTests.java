@@ -111,6 +111,21 @@ class OutboxJpaTests {
           .containsExactlyInAnyOrder("OrderPaid", "EmailNotification");
     }
 
+    @Test
+    void saveAllRootEntitiesWithAssignedEventsCreatesOutboxEntries() {
+
+        Order firstOrder = aRootEntityRepository.save(new Order());
+        Order secondOrder = aRootEntityRepository.save(new Order());
+
+        firstOrder.markPaid(new EmailNotification("first@test.com", "Order Placed", "Body"));
+        secondOrder.markPaid(new EmailNotification("second@test.com", "Order Placed", "Body"));
+
+        aRootEntityRepository.saveAll(List.of(firstOrder, secondOrder));
+
+        assertThat(ordersCount()).isNotNull().isEqualTo(2);
+        assertThat(outboxCount()).isNotNull().isEqualTo(4);
+    }
+
     @Nullable
     private Integer outboxCount() {
         return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Integer.class);
@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link OutboxPartitionMaintainer}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxPartitionMaintainerTests {
+
+    OutboxPartitionMaintainer partitionMaintainer;
+
+    @Mock JdbcTemplate jdbcTemplate;
+    @Mock PlatformTransactionManager transactionManager;
+    @Mock OutboxSchemaAwareExecution outboxSchemaAwareExecution;
+
+    @BeforeEach
+    void setUp() {
+        given(outboxSchemaAwareExecution.outboxTable()).willReturn("messaging.outbox");
+        given(outboxSchemaAwareExecution.qualifiedTable(anyString()))
+          .willAnswer(invocation -> "messaging." + invocation.getArgument(0));
+
+        RelationalDatabaseProperties.Partitioning partitioning = new RelationalDatabaseProperties.Partitioning(
+          Duration.ofDays(1), 2, Duration.ofDays(2), Duration.ofHours(1));
+        Clock clock = Clock.fixed(Instant.parse("2025-03-05T10:30:00Z"), ZoneOffset.UTC);
+
+        partitionMaintainer = new OutboxPartitionMaintainer(jdbcTemplate, new TransactionTemplate(transactionManager),
+          outboxSchemaAwareExecution, partitioning, clock);
+    }
+
+    @Test
+    void moveRowsOutOfDefaultPartitionIntoPartitionCreatedLate() {
+
+        givenExistingTables("messaging.outbox_default", "messaging.outbox_p202503060000_202503070000",
+          "messaging.outbox_p202503070000_202503080000");
+        given(jdbcTemplate.update(anyString())).willReturn(3);
+
+        partitionMaintainer.maintainPartitions();
+
+        InOrder inOrder = inOrder(jdbcTemplate, transactionManager);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(jdbcTemplate).execute("LOCK TABLE messaging.outbox_default IN ACCESS EXCLUSIVE MODE");
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE messaging.outbox_p202503050000_202503060000"
+          + " (LIKE messaging.outbox INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        inOrder.verify(jdbcTemplate).update("WITH moved AS (DELETE FROM messaging.outbox_default"
+          + " WHERE created_at >= '2025-03-05 00:00:00' AND created_at < '2025-03-06 00:00:00' RETURNING *)"
+          + " INSERT INTO messaging.outbox_p202503050000_202503060000 SELECT * FROM moved");
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE messaging.outbox ATTACH PARTITION"
+          + " messaging.outbox_p202503050000_202503060000"
+          + " FOR VALUES FROM ('2025-03-05 00:00:00') TO ('2025-03-06 00:00:00')");
+        inOrder.verify(transactionManager).commit(any());
+
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE TABLE IF NOT EXISTS"));
+        verify(jdbcTemplate, never()).execute(contains("outbox_p202503060000_202503070000"));
+    }
+
+    @Test
+    void createCurrentAndUpcomingPartitionsThenDropExpiredOnes() {
+
+        given(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("messaging.outbox")))
+          .willReturn(List.of("outbox_default", "outbox_p202503020000_202503030000",
+            "outbox_p202503030000_202503040000", "outbox_p202503050000_202503060000"));
+
+        partitionMaintainer.maintainPartitions();
+
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS messaging.outbox_p202503050000_202503060000"
+          + " PARTITION OF messaging.outbox FOR VALUES FROM ('2025-03-05 00:00:00') TO ('2025-03-06 00:00:00')");
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS messaging.outbox_p202503060000_202503070000"
+          + " PARTITION OF messaging.outbox FOR VALUES FROM ('2025-03-06 00:00:00') TO ('2025-03-07 00:00:00')");
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS messaging.outbox_p202503070000_202503080000"
+          + " PARTITION OF messaging.outbox FOR VALUES FROM ('2025-03-07 00:00:00') TO ('2025-03-08 00:00:00')");
+
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS messaging.outbox_p202503020000_202503030000");
+        verify(jdbcTemplate, never()).execute("DROP TABLE IF EXISTS messaging.outbox_p202503030000_202503040000");
+        verify(jdbcTemplate, never()).execute("DROP TABLE IF EXISTS messaging.outbox_default");
+    }
+
+    private void givenExistingTables(String... tables) {
+        given(jdbcTemplate.queryForObject(eq("SELECT to_regclass(?) IS NOT NULL"), eq(Boolean.class), anyString()))
+          .willAnswer(invocation -> List.of(tables).contains(invocation.<String>getArgument(2)));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.util.List;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.acme.eshop.Application;
+import com.acme.eshop.EmailNotification;
+import com.acme.eshop.Order;
+import com.acme.eshop.OrderRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for writing outbox entries to a table qualified with the configured schema.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxSchemaTests {
+
+    @SpringBootTest(classes = Application.class,
+      properties = {"spring.outbox.relational.auto-create=true",
+        "spring.outbox.relational.schema=messaging",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+    static class TestBase {
+
+        @Autowired JdbcTemplate jdbcTemplate;
+        @Autowired OrderRepository orderRepository;
+
+        @BeforeEach
+        void clearDatabase() {
+            jdbcTemplate.update("DELETE FROM messaging.outbox");
+            jdbcTemplate.update("DELETE FROM orders");
+        }
+
+        @Test
+        void saveOutboxEntriesIntoSchemaQualifiedTable() {
+
+            Order order = orderRepository.save(new Order());
+            orderRepository.markPaid(order, new EmailNotification("cust@test.com", "Order Placed", "Body"));
+
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM messaging.outbox", Integer.class))
+              .isEqualTo(2);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class))
+              .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.outbox.relational.write-strategy=jpa")
+    class WithJpaWriteStrategy extends TestBase {}
+
+    @Nested
+    @TestPropertySource(properties = "spring.outbox.relational.write-strategy=jdbc")
+    class WithJdbcWriteStrategy extends TestBase {}
+
+    @Nested
+    @TestPropertySource(properties = "spring.jpa.properties.hibernate.integrator_provider="
+      + "io.github.raedbh.spring.outbox.jpa.OutboxSchemaTests$RecordingIntegratorProvider")
+    class WithConfiguredIntegratorProvider extends TestBase {
+
+        @Test
+        void keepIntegratorsOfConfiguredProvider() {
+            assertThat(RecordingIntegrator.integrated).isTrue();
+        }
+    }
+
+    public static class RecordingIntegratorProvider implements IntegratorProvider {
+
+        @Override
+        public List<Integrator> getIntegrators() {
+            return List.of(new RecordingIntegrator());
+        }
+    }
+
+    static class RecordingIntegrator implements Integrator {
+
+        static volatile boolean integrated;
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+          SessionFactoryImplementor sessionFactory) {
+            integrated = true;
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory,
+          SessionFactoryServiceRegistry serviceRegistry) {
+            // nothing to release
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.acme.eshop.Application;
+import com.acme.eshop.EmailNotification;
+import com.acme.eshop.Order;
+import com.acme.eshop.OrderRepository;
+
+import io.github.raedbh.spring.outbox.core.OutboxEntry;
+import io.github.raedbh.spring.outbox.core.OutboxRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for transient outbox entries, deleted right after being inserted.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxTransientEntriesTests {
+
+    @SpringBootTest(classes = Application.class,
+      properties = {"spring.outbox.relational.auto-create=true",
+        "spring.outbox.transient-entries=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+    static class TestBase {
+
+        @Autowired JdbcTemplate jdbcTemplate;
+        @Autowired OrderRepository orderRepository;
+        @Autowired OutboxRepository outboxRepository;
+        @Autowired TransactionTemplate transactionTemplate;
+        @PersistenceContext EntityManager entityManager;
+
+        @BeforeEach
+        void clearDatabase() {
+            jdbcTemplate.update("DELETE FROM outbox");
+            jdbcTemplate.update("DELETE FROM orders");
+        }
+
+        @Test
+        void leaveOutboxTableEmptyWhenSavingRootEntityWithAssignedEvent() {
+
+            Order order = orderRepository.save(new Order());
+            orderRepository.markPaid(order, new EmailNotification("cust@test.com", "Order Placed", "Body"));
+
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Integer.class))
+              .isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class))
+              .isEqualTo(1);
+        }
+
+        @Test
+        void leavePendingChangesOfPersistenceContextUnflushed() {
+
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.persist(new Order());
+                outboxRepository.saveAllTransiently(List.of(new OutboxEntry("OrderPlaced", new byte[]{1})));
+
+                assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class)).isZero();
+                assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Integer.class)).isZero();
+            });
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "spring.outbox.relational.write-strategy=jpa")
+    class WithJpaWriteStrategy extends TestBase {}
+
+    @Nested
+    @TestPropertySource(properties = "spring.outbox.relational.write-strategy=jdbc")
+    class WithJdbcWriteStrategy extends TestBase {}
+}
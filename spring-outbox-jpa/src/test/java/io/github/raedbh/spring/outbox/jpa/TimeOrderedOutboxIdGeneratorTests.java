@@ -0,0 +1,58 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.jpa;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link TimeOrderedOutboxIdGenerator}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class TimeOrderedOutboxIdGeneratorTests {
+
+    @Test
+    void generateVersion7IdsCarryingCurrentTimestamp() {
+
+        long before = System.currentTimeMillis();
+        UUID id = new TimeOrderedOutboxIdGenerator(false).generateId();
+        long after = System.currentTimeMillis();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, after);
+    }
+
+    @Test
+    void generateStrictlyIncreasingIdsInMonotonicMode() {
+
+        TimeOrderedOutboxIdGenerator generator = new TimeOrderedOutboxIdGenerator(true);
+
+        UUID previous = generator.generateId();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = generator.generateId();
+            assertThat(next.version()).isEqualTo(7);
+            assertThat(next.getMostSignificantBits()).isGreaterThan(previous.getMostSignificantBits());
+            previous = next;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.mongo;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import io.github.raedbh.spring.outbox.core.OutboxPurger;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * MongoDB implementation of {@link OutboxPurger}.
+ *
+ * <p>Outbox document ids are {@link ObjectId}s, whose leading bytes encode their creation time, so expired documents
+ * are found through a range scan of the default {@code _id} index, without any additional field or index. As object
+ * ids are generated by the application, the cutoff is computed from the clock of the application, in UTC like the
+ * object id timestamps.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class MongoOutboxPurger implements OutboxPurger {
+
+    private static final String ID = "_id";
+
+    private final MongoTemplate mongoTemplate;
+
+    MongoOutboxPurger(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public int purge(Duration maxAge, int limit) {
+
+        Instant createdBefore = Instant.now().minus(maxAge);
+        Query expired = new Query(where(ID).lt(lowestObjectIdAt(createdBefore)))
+          .with(Sort.by(ID))
+          .limit(limit);
+        expired.fields().include(ID);
+
+        List<Object> ids = mongoTemplate.find(expired, Document.class, collectionName()).stream()
+          .map(document -> document.get(ID))
+          .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return (int) mongoTemplate.remove(new Query(where(ID).in(ids)), collectionName()).getDeletedCount();
+    }
+
+    /**
+     * The smallest {@link ObjectId} that can be generated at the given instant (second precision).
+     */
+    private static ObjectId lowestObjectIdAt(Instant instant) {
+        return new ObjectId(String.format("%08x%016x", instant.getEpochSecond(), 0));
+    }
+
+    private String collectionName() {
+        return mongoTemplate.getCollectionName(MongoOutboxEntry.class);
+    }
+}
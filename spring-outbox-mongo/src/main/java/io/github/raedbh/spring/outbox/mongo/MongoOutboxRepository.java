@@ -16,12 +16,18 @@
 
 package io.github.raedbh.spring.outbox.mongo;
 
+import java.util.List;
+import java.util.Objects;
+
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 
 import io.github.raedbh.spring.outbox.core.OutboxEntry;
 import io.github.raedbh.spring.outbox.core.OutboxRepository;
 
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
 public class MongoOutboxRepository implements OutboxRepository {
 
     private final MongoTemplate mongoTemplate;
@@ -32,13 +38,68 @@ public class MongoOutboxRepository implements OutboxRepository {
 
     @Override
     public void save(OutboxEntry entry) {
+        mongoTemplate.save(toMongoOutboxEntry(entry));
+    }
+
+    /**
+     * Inserts all entries using a single {@code insertMany} command.
+     */
+    @Override
+    public void saveAll(List<OutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        List<MongoOutboxEntry> mongoOutboxEntries = entries.stream()
+          .map(MongoOutboxRepository::toMongoOutboxEntry)
+          .toList();
+
+        mongoTemplate.insert(mongoOutboxEntries, MongoOutboxEntry.class);
+    }
+
+    /**
+     * Inserts all entries, then deletes them with a single {@code deleteMany} command.
+     */
+    @Override
+    public void saveAllTransiently(List<OutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
 
-        MongoOutboxEntry mongoOutboxEntry = new MongoOutboxEntry(
-          ObjectId.get(),
+        List<MongoOutboxEntry> mongoOutboxEntries = entries.stream()
+          .map(MongoOutboxRepository::toMongoOutboxEntry)
+          .toList();
+
+        mongoTemplate.insert(mongoOutboxEntries, MongoOutboxEntry.class);
+
+        List<ObjectId> ids = mongoOutboxEntries.stream().map(mongoOutboxEntry -> mongoOutboxEntry.id).toList();
+        mongoTemplate.remove(new Query(where("_id").in(ids)), MongoOutboxEntry.class);
+    }
+
+    /**
+     * Deletes the entries with a single {@code deleteMany} command.
+     */
+    @Override
+    public void markPublished(List<OutboxEntry> entries) {
+        List<ObjectId> ids = entries.stream()
+          .map(OutboxEntry::getId)
+          .filter(Objects::nonNull)
+          .map(ObjectId::new)
+          .toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        mongoTemplate.remove(new Query(where("_id").in(ids)), MongoOutboxEntry.class);
+    }
+
+    private static MongoOutboxEntry toMongoOutboxEntry(OutboxEntry entry) {
+        ObjectId id = ObjectId.get();
+        entry.assignId(id.toHexString());
+        return new MongoOutboxEntry(
+          id,
           entry.getType(),
           entry.getPayload(),
           entry.getMetadata());
-
-        mongoTemplate.save(mongoOutboxEntry);
     }
 }
@@ -25,6 +25,7 @@ import org.springframework.data.mongodb.MongoTransactionManager;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
 import io.github.raedbh.spring.outbox.core.OutboxCoreConfiguration;
+import io.github.raedbh.spring.outbox.core.OutboxPurger;
 import io.github.raedbh.spring.outbox.core.OutboxRepository;
 
 /**
@@ -47,4 +48,10 @@ public class OutboxMongoAutoConfiguration {
     OutboxRepository outboxRepository(MongoTemplate mongoTemplate) {
         return new MongoOutboxRepository(mongoTemplate);
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    OutboxPurger outboxPurger(MongoTemplate mongoTemplate) {
+        return new MongoOutboxPurger(mongoTemplate);
+    }
 }
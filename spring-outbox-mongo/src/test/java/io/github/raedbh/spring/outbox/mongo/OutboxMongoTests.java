@@ -16,10 +16,13 @@
 
 package io.github.raedbh.spring.outbox.mongo;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.bson.types.ObjectId;
 import org.springframework.aop.Advisor;
 import org.springframework.aop.framework.Advised;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +37,7 @@ import com.acme.eshop.NonRootEntityRepository;
 import com.acme.eshop.Order;
 import com.acme.eshop.OrderRepository;
 
+import io.github.raedbh.spring.outbox.core.OutboxPurger;
 import io.github.raedbh.spring.outbox.core.StateChangingMethodInterceptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -48,6 +52,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 class OutboxMongoTests {
 
     @Autowired MongoTemplate mongoTemplate;
+    @Autowired OutboxPurger outboxPurger;
 
     @Autowired OrderRepository aRootEntityRepository;
     @Autowired NonRootEntityRepository nonRootEntityRepository;
@@ -109,6 +114,26 @@ class OutboxMongoTests {
           .containsExactlyInAnyOrder("OrderPaid", "EmailNotification");
     }
 
+    @Test
+    void purgeOutboxEntriesOlderThanMaxAge() {
+
+        Instant now = Instant.now();
+        mongoTemplate.insert(new MongoOutboxEntry(objectIdAt(now.minusSeconds(7200)), "Expired1", new byte[]{1}, null));
+        mongoTemplate.insert(new MongoOutboxEntry(objectIdAt(now.minusSeconds(3600)), "Expired2", new byte[]{2}, null));
+        mongoTemplate.insert(new MongoOutboxEntry(ObjectId.get(), "Recent", new byte[]{3}, null));
+
+        assertThat(outboxPurger.purge(Duration.ofSeconds(60), 1)).isEqualTo(1);
+        assertThat(outboxPurger.purge(Duration.ofSeconds(60), 10)).isEqualTo(1);
+
+        assertThat(mongoTemplate.findAll(MongoOutboxEntry.class))
+          .extracting(entry -> entry.type)
+          .containsExactly("Recent");
+    }
+
+    private static ObjectId objectIdAt(Instant instant) {
+        return new ObjectId((int) instant.getEpochSecond(), 0);
+    }
+
     private Long outboxCount() {
         return mongoTemplate.count(new Query(), "outbox");
     }
@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.relay;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.raedbh.spring.outbox.connector.OutboxData;
+import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
+import io.github.raedbh.spring.outbox.core.OutboxAfterCommitPublisher;
+import io.github.raedbh.spring.outbox.core.OutboxEntry;
+import io.github.raedbh.spring.outbox.core.OutboxRepository;
+
+/**
+ * An {@link OutboxAfterCommitPublisher} sending the committed entries through the in-process
+ * {@link OutboxMessageProducer}, then marking them as published once acknowledged.
+ *
+ * <p>Entries are handed over to a single background thread, so the committing thread never waits for the broker and
+ * the entries of successive transactions are sent in commit order. Any failure leaves the entries in the outbox, where
+ * the {@link OutboxPollingRelay} sweeps them once they are older than its minimum age.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class MessageProducerAfterCommitPublisher implements OutboxAfterCommitPublisher, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageProducerAfterCommitPublisher.class);
+
+    private final OutboxMessageProducer messageProducer;
+    private final OutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ackTimeout;
+    private final ExecutorService executorService;
+
+
+    MessageProducerAfterCommitPublisher(OutboxMessageProducer messageProducer, OutboxRepository outboxRepository,
+      TransactionTemplate transactionTemplate, Duration ackTimeout) {
+
+        this.messageProducer = messageProducer;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ackTimeout = ackTimeout;
+        this.executorService = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-after-commit-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+
+    @Override
+    public void publish(List<OutboxEntry> entries) {
+        executorService.execute(() -> publishNow(entries));
+    }
+
+    void publishNow(List<OutboxEntry> entries) {
+        try {
+            List<CompletableFuture<Void>> acknowledgements = new ArrayList<>(entries.size());
+            for (OutboxEntry entry : entries) {
+                acknowledgements.add(messageProducer.produceMessageAcknowledged(toOutboxData(entry)));
+            }
+
+            CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new))
+              .get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.markPublished(entries));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            LOGGER.warn("Failed to publish {} outbox entries after commit, leaving them to the relay..",
+              entries.size(), e);
+        }
+    }
+
+    private static OutboxData toOutboxData(OutboxEntry entry) {
+        Map<String, Object> metadata = entry.getMetadata() == null ? Map.of() : new HashMap<>(entry.getMetadata());
+        return new OutboxData(entry.getId(), entry.getType(), entry.getPayload(), metadata);
+    }
+
+    /**
+     * Stops accepting entries and waits for the ones already handed over to be published, within the ack timeout.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        executorService.shutdown();
+        if (!executorService.awaitTermination(ackTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            LOGGER.warn("After-commit publication still running on shutdown, leaving remaining entries to the relay..");
+            executorService.shutdownNow();
+        }
+    }
+}
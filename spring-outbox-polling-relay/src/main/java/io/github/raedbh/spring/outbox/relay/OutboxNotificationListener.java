@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.relay;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Listens to a PostgreSQL notify channel on a dedicated connection, to wake the relay up as soon as outbox rows are
+ * committed.
+ *
+ * <p>The connection is opened lazily and reopened after any failure. Until then, waiting for a notification falls
+ * back to sleeping for the whole timeout, so the relay keeps polling at its regular interval.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxNotificationListener implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxNotificationListener.class);
+
+    private final DataSource dataSource;
+    private final String channel;
+
+    private Connection connection;
+
+
+    OutboxNotificationListener(DataSource dataSource, String channel) {
+        Assert.isTrue(channel.matches("[A-Za-z_][A-Za-z0-9_]*"), "Invalid notify channel: " + channel);
+
+        this.dataSource = dataSource;
+        this.channel = channel;
+    }
+
+
+    /**
+     * Waits until a notification is received on the channel or the timeout elapses, whichever comes first.
+     *
+     * @param timeout the maximum time to wait.
+     * @return whether a notification was received.
+     */
+    boolean awaitNotification(Duration timeout) throws InterruptedException {
+        try {
+            PGNotification[] notifications = listeningConnection().unwrap(PGConnection.class)
+              .getNotifications((int) Math.max(1, timeout.toMillis()));
+            return notifications != null && notifications.length > 0;
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to listen to channel '{}', falling back to polling..", channel, e);
+            close();
+            Thread.sleep(timeout.toMillis());
+            return false;
+        }
+    }
+
+    private Connection listeningConnection() throws SQLException {
+        if (connection == null) {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN \"" + channel + "\"");
+            }
+        }
+        return connection;
+    }
+
+    @Override
+    public void close() {
+        if (connection == null) {
+            return;
+        }
+
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.debug("Failed to close the listening connection", e);
+        }
+        connection = null;
+    }
+}
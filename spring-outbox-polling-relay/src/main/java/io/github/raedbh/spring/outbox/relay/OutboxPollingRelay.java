@@ -0,0 +1,312 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.relay;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import io.github.raedbh.spring.outbox.connector.OutboxData;
+import io.github.raedbh.spring.outbox.connector.OutboxDataMapper;
+import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
+
+/**
+ * Relays outbox rows to a message broker by polling the outbox table, as an alternative to a Debezium connector.
+ *
+ * <p>Each batch is claimed with {@code SELECT ... FOR UPDATE SKIP LOCKED} in its own transaction, sent through the
+ * {@link OutboxMessageProducer}, and deleted once the broker acknowledged every message of the batch. Rows locked by
+ * another relay are skipped rather than waited for, so several application instances can relay concurrently without
+ * any coordination. If a message is not acknowledged in time, the transaction rolls back and the whole batch is
+ * claimed again on a later poll, which makes the delivery at-least-once.</p>
+ *
+ * <p>The claimed rows stay locked, and a connection is held, until the broker acknowledged the batch, which is why
+ * the acknowledgement timeout is capped to {@link #MAX_ACK_TIMEOUT}. Claiming with a lease committed before sending
+ * would release them sooner, but requires a claim column on the outbox table, whose updates would in turn be captured
+ * by the Debezium connectors sharing the table.</p>
+ *
+ * <p>On PostgreSQL, the relay can listen to the channel notified by the application on insert, and then only polls
+ * when woken up, or after the poll interval as a fallback against missed notifications.</p>
+ *
+ * <p>Rows that cannot be mapped to outbox data, e.g. because of malformed metadata, are never deleted: they are left in
+ * the table for an operator to fix or remove, logged, counted by {@link #getUnmappableRows()}, and no longer claimed by
+ * this relay, so that they do not hold back the rows behind them.</p>
+ *
+ * <p>When entries are also published right after commit, the relay acts as a sweeper: it only claims the rows older
+ * than the minimum age, i.e. those the after-commit publication failed to mark as published.</p>
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxPollingRelay implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxPollingRelay.class);
+
+    /**
+     * The maximum time the claimed rows can stay locked awaiting the broker acknowledgements.
+     */
+    static final Duration MAX_ACK_TIMEOUT = Duration.ofMinutes(1);
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxMessageProducer messageProducer;
+    private final OutboxRelayProperties properties;
+    private final Duration minAge;
+    private final String deleteStatement;
+    private final Map<String, Object> unmappableIds = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executorService;
+
+
+    OutboxPollingRelay(DataSource dataSource, PlatformTransactionManager transactionManager,
+      OutboxMessageProducer messageProducer, OutboxRelayProperties properties) {
+
+        Assert.isTrue(properties.getBatchSize() > 0, "Batch size must be positive");
+        Duration ackTimeout = properties.getAckTimeout();
+        Assert.isTrue(ackTimeout.compareTo(Duration.ZERO) > 0 && ackTimeout.compareTo(MAX_ACK_TIMEOUT) <= 0,
+          () -> "Ack timeout must be positive and at most " + MAX_ACK_TIMEOUT + ", the rows being locked meanwhile");
+
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.messageProducer = messageProducer;
+        this.properties = properties;
+        this.minAge = properties.getMinAge() != null ? properties.getMinAge() : Duration.ZERO;
+        this.deleteStatement = "DELETE FROM " + properties.getTable() + " WHERE id = ?";
+    }
+
+
+    @Override
+    public synchronized void start() {
+        if (executorService != null) {
+            return;
+        }
+
+        executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-polling-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (StringUtils.hasText(properties.getNotifyChannel())) {
+            executorService.execute(this::pollOnNotification);
+        } else {
+            long interval = properties.getPollInterval().toMillis();
+            executorService.scheduleWithFixedDelay(this::poll, 0, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executorService == null) {
+            return;
+        }
+
+        executorService.shutdownNow();
+        executorService = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executorService != null;
+    }
+
+    /**
+     * Relays batch by batch until fewer than a full batch is claimed.
+     *
+     * @return the total number of claimed rows.
+     */
+    int poll() {
+
+        int total = 0;
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+                total += relayed;
+            } while (relayed == properties.getBatchSize() && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to relay outbox entries, retrying on next run..", e);
+        }
+
+        if (total > 0) {
+            LOGGER.debug("Relayed {} outbox entries", total);
+        }
+        return total;
+    }
+
+    /**
+     * Polls whenever a notification is received on the notify channel, or after the poll interval without any.
+     */
+    private void pollOnNotification() {
+        try (OutboxNotificationListener listener = new OutboxNotificationListener(dataSource,
+          properties.getNotifyChannel())) {
+
+            while (!Thread.currentThread().isInterrupted()) {
+                poll();
+                listener.awaitNotification(properties.getPollInterval());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Claims a batch of rows, sends them and deletes them once acknowledged, all in a single transaction. Rows that
+     * cannot be mapped are left in place.
+     *
+     * @return the number of claimed rows, including the rows left in place because they could not be mapped.
+     */
+    int relayBatch() {
+        Integer claimed = transactionTemplate.execute(status -> {
+
+            List<Object> unmappable = List.copyOf(unmappableIds.values());
+            List<ClaimedRow> rows = jdbcTemplate.query(claimStatement(unmappable.size()), this::mapRow,
+              claimParameters(unmappable));
+            if (rows.isEmpty()) {
+                return 0;
+            }
+
+            List<ClaimedRow> mapped = new ArrayList<>(rows.size());
+            List<CompletableFuture<Void>> acknowledgements = new ArrayList<>(rows.size());
+            for (ClaimedRow row : rows) {
+                if (row.outboxData() == null) {
+                    unmappableIds.put(idToString(row.id()), row.id());
+                    continue;
+                }
+                mapped.add(row);
+                acknowledgements.add(messageProducer.produceMessageAcknowledged(row.outboxData()));
+            }
+            awaitAcknowledgements(acknowledgements);
+
+            jdbcTemplate.batchUpdate(deleteStatement, mapped, mapped.size(), (ps, row) -> ps.setObject(1, row.id()));
+            return rows.size();
+        });
+
+        return claimed == null ? 0 : claimed;
+    }
+
+    /**
+     * Returns the number of rows this relay found it cannot map to outbox data, and leaves in the table.
+     */
+    int getUnmappableRows() {
+        return unmappableIds.size();
+    }
+
+    private String claimStatement(int unmappable) {
+
+        List<String> conditions = new ArrayList<>(2);
+        if (!minAge.isZero()) {
+            conditions.add("created_at < ?");
+        }
+        if (unmappable > 0) {
+            conditions.add("id NOT IN (" + String.join(", ", Collections.nCopies(unmappable, "?")) + ")");
+        }
+
+        return "SELECT id, type, payload, metadata FROM " + properties.getTable()
+          + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+          + " ORDER BY created_at, id LIMIT ? FOR UPDATE SKIP LOCKED";
+    }
+
+    private Object[] claimParameters(List<Object> unmappable) {
+
+        List<Object> parameters = new ArrayList<>(unmappable.size() + 2);
+        if (!minAge.isZero()) {
+            // created_at values are written in the JVM time zone
+            parameters.add(Timestamp.from(Instant.now().minus(minAge)));
+        }
+        parameters.addAll(unmappable);
+        parameters.add(properties.getBatchSize());
+        return parameters.toArray();
+    }
+
+    private void awaitAcknowledgements(List<CompletableFuture<Void>> acknowledgements) {
+
+        Duration ackTimeout = properties.getAckTimeout();
+        try {
+            CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new))
+              .get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while awaiting the broker acknowledgements", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to send outbox messages", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Outbox messages not acknowledged within " + ackTimeout, e);
+        }
+    }
+
+    private ClaimedRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+
+        Object id = rs.getObject("id");
+        String type = rs.getString("type");
+        byte[] payload = rs.getBytes("payload");
+        String metadata = rs.getString("metadata");
+
+        OutboxData outboxData;
+        try {
+            outboxData = OutboxDataMapper.fromColumns(idToString(id), type, payload, metadata);
+        } catch (Exception e) {
+            LOGGER.error("Failed to map outbox row {} to outboxData, leaving it in the table...", idToString(id), e);
+            outboxData = null;
+        }
+
+        return new ClaimedRow(id, outboxData);
+    }
+
+    /**
+     * Formats the id as a UUID string, MySQL storing it as {@code BINARY(16)}.
+     */
+    private static String idToString(Object id) {
+        if (id instanceof byte[] bytes && bytes.length == 16) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+        return String.valueOf(id);
+    }
+
+    /**
+     * A claimed row, holding its id as read from the database so that it can be bound back as is.
+     */
+    private record ClaimedRow(Object id, OutboxData outboxData) {}
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.relay;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
+import io.github.raedbh.spring.outbox.core.OutboxAfterCommitPublisher;
+import io.github.raedbh.spring.outbox.core.OutboxRepository;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(OutboxRelayProperties.class)
+public class OutboxRelayAutoConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.outbox.relay", name = "enabled", havingValue = "true")
+    OutboxPollingRelay outboxPollingRelay(DataSource dataSource, PlatformTransactionManager transactionManager,
+      OutboxMessageProducer outboxMessageProducer, OutboxRelayProperties properties) {
+
+        if (properties.isPublishAfterCommit()) {
+            properties.setMinAge(sweeperMinAge(properties));
+        }
+        return new OutboxPollingRelay(dataSource, transactionManager, outboxMessageProducer, properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.outbox.relay", name = "publish-after-commit", havingValue = "true")
+    OutboxAfterCommitPublisher outboxAfterCommitPublisher(OutboxMessageProducer outboxMessageProducer,
+      OutboxRepository outboxRepository, PlatformTransactionManager transactionManager,
+      OutboxRelayProperties properties) {
+
+        return new MessageProducerAfterCommitPublisher(outboxMessageProducer, outboxRepository,
+          new TransactionTemplate(transactionManager), properties.getAckTimeout());
+    }
+
+    /**
+     * Returns the minimum age of the rows swept by the relay, which must exceed the time the after-commit publication
+     * may take to be acknowledged, otherwise the relay would publish the entries it is still publishing.
+     */
+    static Duration sweeperMinAge(OutboxRelayProperties properties) {
+
+        Duration ackTimeout = properties.getAckTimeout();
+        Duration minAge = properties.getMinAge();
+        if (minAge == null) {
+            return ackTimeout.multipliedBy(2);
+        }
+        if (minAge.compareTo(ackTimeout) <= 0) {
+            throw new IllegalStateException("spring.outbox.relay.min-age (" + minAge + ") must be greater than "
+              + "spring.outbox.relay.ack-timeout (" + ackTimeout + ") when publishing after commit");
+        }
+        return minAge;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    @ConditionalOnProperty(prefix = "spring.outbox.relay", name = "enabled", havingValue = "true")
+    static class OutboxRelayMetricsConfiguration {
+
+        @Bean
+        OutboxRelayMetrics outboxRelayMetrics(OutboxPollingRelay outboxPollingRelay) {
+            return new OutboxRelayMetrics(outboxPollingRelay);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.relay;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the outbox rows an {@link OutboxPollingRelay} leaves in the table because they cannot be mapped.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxRelayMetrics implements MeterBinder {
+
+    private final OutboxPollingRelay relay;
+
+
+    OutboxRelayMetrics(OutboxPollingRelay relay) {
+        this.relay = relay;
+    }
+
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("spring.outbox.relay.unmappable-rows", relay, OutboxPollingRelay::getUnmappableRows)
+          .description("Outbox rows that cannot be mapped to a message, left in the table")
+          .register(registry);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.relay;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the outbox polling relay.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@ConfigurationProperties("spring.outbox.relay")
+public class OutboxRelayProperties {
+
+    /**
+     * Whether to relay outbox rows by polling the outbox table.
+     */
+    private boolean enabled = false;
+
+    /**
+     * The outbox table, optionally qualified with its schema.
+     */
+    private String table = "outbox";
+
+    /**
+     * The maximum number of rows claimed per transaction.
+     */
+    private int batchSize = 100;
+
+    /**
+     * The delay between the end of a poll that drained the table and the start of the next one. When listening to a
+     * notify channel, the maximum delay to wait for a notification before polling anyway.
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * The maximum time to wait for the broker to acknowledge a claimed batch before releasing it, at most one minute
+     * as the claimed rows stay locked meanwhile.
+     */
+    private Duration ackTimeout = Duration.ofSeconds(30);
+
+    /**
+     * The PostgreSQL channel to listen to for wake-ups, as notified by the application inserting outbox rows.
+     */
+    private String notifyChannel;
+
+    /**
+     * Whether to publish outbox entries right after their transaction commits, the relay then only sweeping the
+     * entries left unpublished.
+     */
+    private boolean publishAfterCommit = false;
+
+    /**
+     * The minimum age of the rows claimed by the relay, leaving the most recent ones to the after-commit publication.
+     * It must exceed the acknowledgement timeout when publishing after commit, and defaults to twice the timeout then.
+     * Without after-commit publication, every row is claimed by default.
+     */
+    private Duration minAge;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public void setTable(String table) {
+        this.table = table;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getAckTimeout() {
+        return ackTimeout;
+    }
+
+    public void setAckTimeout(Duration ackTimeout) {
+        this.ackTimeout = ackTimeout;
+    }
+
+    public String getNotifyChannel() {
+        return notifyChannel;
+    }
+
+    public void setNotifyChannel(String notifyChannel) {
+        this.notifyChannel = notifyChannel;
+    }
+
+    public boolean isPublishAfterCommit() {
+        return publishAfterCommit;
+    }
+
+    public void setPublishAfterCommit(boolean publishAfterCommit) {
+        this.publishAfterCommit = publishAfterCommit;
+    }
+
+    public Duration getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(Duration minAge) {
+        this.minAge = minAge;
+    }
+}
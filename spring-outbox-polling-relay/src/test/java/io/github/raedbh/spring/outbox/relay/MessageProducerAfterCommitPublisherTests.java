@@ -0,0 +1,96 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.relay;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.raedbh.spring.outbox.connector.OutboxData;
+import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
+import io.github.raedbh.spring.outbox.core.OutboxEntry;
+import io.github.raedbh.spring.outbox.core.OutboxRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link MessageProducerAfterCommitPublisher}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class MessageProducerAfterCommitPublisherTests {
+
+    MessageProducerAfterCommitPublisher publisher;
+
+    @Mock OutboxMessageProducer messageProducer;
+    @Mock OutboxRepository outboxRepository;
+    @Mock PlatformTransactionManager transactionManager;
+
+    List<OutboxEntry> entries;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new MessageProducerAfterCommitPublisher(messageProducer, outboxRepository,
+          new TransactionTemplate(transactionManager), Duration.ofSeconds(1));
+
+        OutboxEntry entry = new OutboxEntry("OrderPaid", new byte[]{1}, Map.of("operation", "pay"));
+        entry.assignId("0190f8a4-6b2e-7c3d-8e4f-5a6b7c8d9e0f");
+        entries = List.of(entry);
+    }
+
+    @Test
+    void markEntriesPublishedOnceAcknowledged() {
+
+        given(messageProducer.produceMessageAcknowledged(any())).willReturn(CompletableFuture.completedFuture(null));
+
+        publisher.publishNow(entries);
+
+        ArgumentCaptor<OutboxData> outboxDataCaptor = ArgumentCaptor.forClass(OutboxData.class);
+        verify(messageProducer).produceMessageAcknowledged(outboxDataCaptor.capture());
+        assertThat(outboxDataCaptor.getValue().getId()).isEqualTo("0190f8a4-6b2e-7c3d-8e4f-5a6b7c8d9e0f");
+        assertThat(outboxDataCaptor.getValue().getMetadata()).isEqualTo(Map.of("operation", "pay"));
+
+        verify(outboxRepository).markPublished(entries);
+    }
+
+    @Test
+    void leaveEntriesToRelayWhenNotAcknowledged() {
+
+        given(messageProducer.produceMessageAcknowledged(any()))
+          .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        publisher.publishNow(entries);
+
+        verify(outboxRepository, never()).markPublished(any());
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.relay;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.raedbh.spring.outbox.connector.OutboxData;
+import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link OutboxPollingRelay}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxPollingRelayTests {
+
+    EmbeddedDatabase dataSource;
+    JdbcTemplate jdbcTemplate;
+    DataSourceTransactionManager transactionManager;
+    OutboxRelayProperties properties;
+
+    List<OutboxData> sent = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+          .setType(EmbeddedDatabaseType.H2)
+          .generateUniqueName(true)
+          .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE outbox (id UUID NOT NULL, type VARCHAR(255) NOT NULL, payload BLOB, "
+          + "metadata JSON, created_at TIMESTAMP NOT NULL, PRIMARY KEY (id))");
+
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        properties = new OutboxRelayProperties();
+        properties.setBatchSize(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    void relayRowsInCreationOrderThenDeleteThem() {
+
+        UUID first = insert("OrderPlaced", new byte[]{1}, "{\"operation\":\"place\"}",
+          Instant.parse("2025-01-01T00:00:00Z"));
+        UUID second = insert("OrderPaid", new byte[]{2}, null, Instant.parse("2025-01-01T00:00:01Z"));
+        UUID third = insert("OrderShipped", new byte[]{3}, null, Instant.parse("2025-01-01T00:00:02Z"));
+
+        int relayed = relay(sent::add).poll();
+
+        assertThat(relayed).isEqualTo(3);
+        assertThat(sent).extracting(OutboxData::getId)
+          .containsExactly(first.toString(), second.toString(), third.toString());
+        assertThat(sent.get(0).getMetadata()).isEqualTo(Map.of("operation", "place"));
+        assertThat(countRows()).isZero();
+    }
+
+    @Test
+    void keepRowsWhenNotAcknowledged() {
+
+        insert("OrderPlaced", new byte[]{1}, null, Instant.now());
+
+        OutboxMessageProducer failingProducer = new OutboxMessageProducer() {
+            @Override
+            public void produceMessage(OutboxData outboxData) {}
+
+            @Override
+            public CompletableFuture<Void> produceMessageAcknowledged(OutboxData outboxData) {
+                return CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"));
+            }
+        };
+
+        int relayed = relay(failingProducer).poll();
+
+        assertThat(relayed).isZero();
+        assertThat(countRows()).isEqualTo(1);
+    }
+
+    @Test
+    void skipRowsLockedByAnotherRelay() {
+
+        UUID locked = insert("OrderPlaced", new byte[]{1}, null, Instant.parse("2025-01-01T00:00:00Z"));
+        UUID free = insert("OrderPaid", new byte[]{2}, null, Instant.parse("2025-01-01T00:00:01Z"));
+
+        OutboxPollingRelay relay = relay(sent::add);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM outbox WHERE id = ? FOR UPDATE", locked);
+
+            CompletableFuture.supplyAsync(relay::relayBatch).join();
+        });
+
+        assertThat(sent).extracting(OutboxData::getId).containsExactly(free.toString());
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM outbox", UUID.class)).containsExactly(locked);
+    }
+
+    @Test
+    void leaveRecentRowsToAfterCommitPublication() {
+
+        properties.setMinAge(Duration.ofMinutes(1));
+
+        UUID old = insert("OrderPlaced", new byte[]{1}, null, Instant.now().minus(Duration.ofMinutes(5)));
+        UUID recent = insert("OrderPaid", new byte[]{2}, null, Instant.now());
+
+        relay(sent::add).poll();
+
+        assertThat(sent).extracting(OutboxData::getId).containsExactly(old.toString());
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM outbox", UUID.class)).containsExactly(recent);
+    }
+
+    @Test
+    void leaveRowsThatCannotBeMappedInPlace() {
+
+        UUID unmappable = insert("OrderPlaced", null, null, Instant.parse("2025-01-01T00:00:00Z"));
+        UUID first = insert("OrderPaid", new byte[]{1}, null, Instant.parse("2025-01-01T00:00:01Z"));
+        UUID second = insert("OrderShipped", new byte[]{2}, null, Instant.parse("2025-01-01T00:00:02Z"));
+
+        OutboxPollingRelay relay = relay(sent::add);
+        relay.poll();
+        relay.poll();
+
+        assertThat(sent).extracting(OutboxData::getId).containsExactly(first.toString(), second.toString());
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM outbox", UUID.class)).containsExactly(unmappable);
+        assertThat(relay.getUnmappableRows()).isOne();
+    }
+
+    @Test
+    void fallBackToPollingWhenNotificationsAreUnavailable() {
+
+        // H2 connections cannot be unwrapped to PGConnection
+        properties.setNotifyChannel("outbox_inserted");
+        properties.setPollInterval(Duration.ofMillis(50));
+
+        OutboxPollingRelay relay = relay(sent::add);
+        relay.start();
+        try {
+            UUID id = insert("OrderPlaced", new byte[]{1}, null, Instant.now());
+
+            await().atMost(Duration.ofSeconds(5))
+              .untilAsserted(() -> assertThat(sent).extracting(OutboxData::getId).containsExactly(id.toString()));
+        } finally {
+            relay.stop();
+        }
+    }
+
+    @Test
+    void rejectAckTimeoutHoldingRowLocksTooLong() {
+
+        properties.setAckTimeout(Duration.ofMinutes(5));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> relay(sent::add));
+    }
+
+    private OutboxPollingRelay relay(OutboxMessageProducer messageProducer) {
+        return new OutboxPollingRelay(dataSource, transactionManager, messageProducer, properties);
+    }
+
+    private UUID insert(String type, byte[] payload, String metadata, Instant createdAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(
+          "INSERT INTO outbox (id, type, payload, metadata, created_at) VALUES (?, ?, ?, ? FORMAT JSON, ?)",
+          id, type, payload, metadata, Timestamp.from(createdAt));
+        return id;
+    }
+
+    private int countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Integer.class);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2024-2025 the original authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.raedbh.spring.outbox.relay;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.github.raedbh.spring.outbox.connector.OutboxMessageProducer;
+import io.github.raedbh.spring.outbox.core.OutboxRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link OutboxRelayAutoConfiguration}.
+ *
+ * @author Raed Ben Hamouda
+ * @since 1.0
+ */
+class OutboxRelayAutoConfigurationTests {
+
+    ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(OutboxRelayAutoConfiguration.class))
+      .withBean(DataSource.class, () -> Mockito.mock(DataSource.class))
+      .withBean(PlatformTransactionManager.class, () -> Mockito.mock(PlatformTransactionManager.class))
+      .withBean(OutboxMessageProducer.class, () -> Mockito.mock(OutboxMessageProducer.class));
+
+    @Test
+    void relayDisabledByDefault() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(OutboxPollingRelay.class));
+    }
+
+    @Test
+    void relayEnabled() {
+        contextRunner
+          .withPropertyValues("spring.outbox.relay.enabled=true", "spring.outbox.relay.batch-size=50")
+          .run(context -> {
+              assertThat(context).hasSingleBean(OutboxPollingRelay.class);
+              assertThat(context).hasSingleBean(OutboxRelayMetrics.class);
+              assertThat(context.getBean(OutboxRelayProperties.class).getBatchSize()).isEqualTo(50);
+          });
+    }
+
+    @Test
+    void afterCommitPublicationEnabled() {
+        contextRunner
+          .withBean(OutboxRepository.class, () -> Mockito.mock(OutboxRepository.class))
+          .withPropertyValues("spring.outbox.relay.publish-after-commit=true")
+          .run(context -> {
+              assertThat(context).hasSingleBean(MessageProducerAfterCommitPublisher.class);
+              assertThat(context).doesNotHaveBean(OutboxPollingRelay.class);
+          });
+    }
+
+    @Test
+    void sweepRowsOlderThanTwiceTheAckTimeoutByDefault() {
+        contextRunner
+          .withBean(OutboxRepository.class, () -> Mockito.mock(OutboxRepository.class))
+          .withPropertyValues("spring.outbox.relay.enabled=true", "spring.outbox.relay.publish-after-commit=true",
+            "spring.outbox.relay.ack-timeout=10s")
+          .run(context -> {
+              assertThat(context).hasSingleBean(OutboxPollingRelay.class);
+              assertThat(context.getBean(OutboxRelayProperties.class).getMinAge()).isEqualTo(Duration.ofSeconds(20));
+          });
+    }
+
+    @Test
+    void rejectMinAgeNotExceedingAckTimeoutWhenPublishingAfterCommit() {
+        contextRunner
+          .withBean(OutboxRepository.class, () -> Mockito.mock(OutboxRepository.class))
+          .withPropertyValues("spring.outbox.relay.enabled=true", "spring.outbox.relay.publish-after-commit=true",
+            "spring.outbox.relay.ack-timeout=30s", "spring.outbox.relay.min-age=30s")
+          .run(context -> assertThat(context).getFailure()
+            .rootCause()
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("min-age"));
+    }
+
+    @Test
+    void claimEveryRowWithoutAfterCommitPublication() {
+        contextRunner
+          .withPropertyValues("spring.outbox.relay.enabled=true")
+          .run(context -> assertThat(context.getBean(OutboxRelayProperties.class).getMinAge()).isNull());
+    }
+}
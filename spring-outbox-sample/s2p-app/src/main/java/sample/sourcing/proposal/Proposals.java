@@ -54,8 +54,8 @@ public interface Proposals extends CrudRepository<Proposal, EntityIdentifier> {
             } else {
                 proposal.markRejected();
             }
-            save(proposal);
         });
+        saveAll(allProposals);
     }
 
     @Transactional